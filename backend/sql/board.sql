@@ -213,3 +213,49 @@ FROM board;
 
 
 
+
+# 목록용 카운터 테이블 (파일/좋아요/댓글 수)
+# BoardStatsService 가 쓰기마다 증감하고, reconcile 이 원본 테이블 기준으로 다시 맞춤
+CREATE TABLE board_stats
+(
+    board_id           INT PRIMARY KEY REFERENCES board (id),
+    number_of_images   INT NOT NULL DEFAULT 0,
+    number_of_likes    INT NOT NULL DEFAULT 0,
+    number_of_comments INT NOT NULL DEFAULT 0,
+    INDEX idx_board_stats_likes (number_of_likes, board_id)
+);
+
+# 이미지 사본(w320/w640/w1280) 생성 후 만들어진 폭 목록 ("320,640")
+ALTER TABLE board_file
+    ADD COLUMN widths VARCHAR(50);
+
+# 첨부파일 본문 (내용 SHA-256 으로 한 번만 저장, S3 키 prj3/blob/{hash})
+# ref_count 는 board_file 참조 수 + 업로드 중인 요청이 잡아 둔 수
+# stored 는 S3 PUT 이 끝났는지 (아직이면 같은 내용을 올리는 요청도 PUT)
+CREATE TABLE board_blob
+(
+    hash         CHAR(64) PRIMARY KEY,
+    size         BIGINT      NOT NULL,
+    content_type VARCHAR(100),
+    ref_count    INT         NOT NULL DEFAULT 0,
+    stored       BOOLEAN     NOT NULL DEFAULT FALSE,
+    widths       VARCHAR(50),
+    updated      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_board_blob_unreferenced (ref_count, updated)
+);
+
+# hash 가 NULL 이면 예전 방식 키 (prj3/board/{id}/{name})
+# 사본 폭은 본문 단위로 board_blob.widths 에 기록
+ALTER TABLE board_file
+    ADD COLUMN hash CHAR(64),
+    DROP COLUMN widths,
+    ADD INDEX idx_board_file_hash (hash);
+
+# 게시물별 순 조회자 수 추정용 HyperLogLog (회원 id 또는 IP 해시)
+# BoardUniqueViews 가 메모리에 모았다가 주기적으로 통째로 덮어씀 (sparse: 쌍마다 2 byte, dense: 769 byte 고정)
+CREATE TABLE board_view_sketch
+(
+    board_id INT PRIMARY KEY REFERENCES board (id),
+    sketch   VARBINARY(769) NOT NULL,
+    updated  DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
@@ -100,3 +100,10 @@ DROP TABLE test;
 
 DELETE FROM refresh_token
 WHERE id BETWEEN 554 AND 588;
+
+# 대화방 키 ("작은id-큰id") 계산 컬럼 + (키, id) 인덱스
+# 보낸/받은 쪽 OR 조건 대신 키 하나로 범위 스캔, id 역순으로 이전 메시지 페이지
+ALTER TABLE chat_message
+    ADD COLUMN conversation_key VARCHAR(23)
+        AS (CONCAT(LEAST(sender_id, recipient_id), '-', GREATEST(sender_id, recipient_id))) STORED,
+    ADD INDEX idx_chat_message_conversation (conversation_key, id);
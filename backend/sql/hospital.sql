@@ -67,4 +67,6 @@ CREATE TABLE star_rating
 DROP TABLE star_rating;
 DELETE
 FROM star_rating
-WHERE hospital_id = 1;
\ No newline at end of file
+WHERE hospital_id = 1;
+# 병원별 댓글 keyset 페이지 (hospital_id 에는 FK 가 없어서 인덱스도 없음)
+CREATE INDEX idx_hospital_comment_hospital ON hospital_comment (hospital_id, id);
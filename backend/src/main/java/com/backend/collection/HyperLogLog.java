@@ -0,0 +1,195 @@
+package com.backend.collection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 서로 다른 값의 개수 추정 (HyperLogLog, 레지스터 2^10 개, 표준 오차 약 3.3%)
+// 값 자체는 저장하지 않고 64bit 해시의 (앞 10bit = 레지스터, 나머지의 선행 0 개수 + 1 = rank) 만 남김
+// 적게 들어온 동안은 (레지스터, rank) 쌍을 정렬된 char 배열로 (sparse), 레지스터 절반을 넘으면 byte 배열로 (dense)
+// 직렬화: sparse 는 쌍마다 2 byte, dense 는 레지스터마다 6 bit (768 byte), 최대 769 byte
+// 동기화는 호출 쪽에서
+public class HyperLogLog {
+    private static final int P = 10;
+    private static final int M = 1 << P;
+    private static final int RANK_BITS = 6;
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / M);
+
+    private static final byte FORMAT_SPARSE = 1;
+    private static final byte FORMAT_DENSE = 2;
+    private static final int DENSE_BYTES = M * RANK_BITS / 8;
+
+    // (레지스터 << 6 | rank), 레지스터 순 정렬, 레지스터마다 최대 rank 하나
+    private char[] sparse = new char[4];
+    private int sparseSize;
+    // dense 로 바뀌면 sparse 는 null
+    private byte[] registers;
+
+    // 바뀌었으면 true
+    public boolean offer(long hash) {
+        int register = (int) (hash >>> (64 - P));
+        int rank = Long.numberOfLeadingZeros((hash << P) | (1L << (P - 1))) + 1;
+        return registers == null ? offerSparse(register, rank) : offerDense(register, rank);
+    }
+
+    public boolean offer(String value) {
+        return offer(hash(value));
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        if (registers == null) {
+            zeros = M - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1.0 / (1L << (sparse[i] & RANK_MASK));
+            }
+        } else {
+            for (byte rank : registers) {
+                if (rank == 0) {
+                    zeros++;
+                }
+                sum += 1.0 / (1L << rank);
+            }
+        }
+        double estimate = ALPHA * M * M / sum;
+        // 적은 개수는 빈 레지스터 비율로 (linear counting)
+        if (estimate <= 2.5 * M && zeros > 0) {
+            estimate = M * Math.log((double) M / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    // 레지스터별 최대값 (다른 노드 / 저장된 스케치와 합칠 때)
+    public void merge(HyperLogLog other) {
+        if (other.registers == null) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                offerRegister(other.sparse[i] >>> RANK_BITS, other.sparse[i] & RANK_MASK);
+            }
+            return;
+        }
+        toDense();
+        for (int i = 0; i < M; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+
+    // 둘 중 작은 형식으로 (sparse 는 384 쌍까지)
+    public byte[] toBytes() {
+        if (registers == null && sparseSize * 2 <= DENSE_BYTES) {
+            byte[] bytes = new byte[1 + sparseSize * 2];
+            bytes[0] = FORMAT_SPARSE;
+            for (int i = 0; i < sparseSize; i++) {
+                bytes[1 + i * 2] = (byte) (sparse[i] >>> 8);
+                bytes[2 + i * 2] = (byte) sparse[i];
+            }
+            return bytes;
+        }
+        byte[] registers = this.registers;
+        if (registers == null) {
+            registers = new byte[M];
+            for (int i = 0; i < sparseSize; i++) {
+                registers[sparse[i] >>> RANK_BITS] = (byte) (sparse[i] & RANK_MASK);
+            }
+        }
+        byte[] bytes = new byte[1 + DENSE_BYTES];
+        bytes[0] = FORMAT_DENSE;
+        // 4 레지스터(24bit) -> 3 byte
+        for (int i = 0, out = 1; i < M; i += 4, out += 3) {
+            int packed = registers[i] << 18 | registers[i + 1] << 12 | registers[i + 2] << 6 | registers[i + 3];
+            bytes[out] = (byte) (packed >>> 16);
+            bytes[out + 1] = (byte) (packed >>> 8);
+            bytes[out + 2] = (byte) packed;
+        }
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes[0] == FORMAT_SPARSE) {
+            for (int i = 1; i + 1 < bytes.length; i += 2) {
+                char pair = (char) ((bytes[i] & 0xFF) << 8 | (bytes[i + 1] & 0xFF));
+                sketch.offerRegister(pair >>> RANK_BITS, pair & RANK_MASK);
+            }
+            return sketch;
+        }
+        if (bytes[0] != FORMAT_DENSE || bytes.length != 1 + DENSE_BYTES) {
+            throw new IllegalArgumentException("unknown sketch format");
+        }
+        sketch.registers = new byte[M];
+        sketch.sparse = null;
+        for (int i = 0, in = 1; i < M; i += 4, in += 3) {
+            int packed = (bytes[in] & 0xFF) << 16 | (bytes[in + 1] & 0xFF) << 8 | (bytes[in + 2] & 0xFF);
+            sketch.registers[i] = (byte) (packed >>> 18 & RANK_MASK);
+            sketch.registers[i + 1] = (byte) (packed >>> 12 & RANK_MASK);
+            sketch.registers[i + 2] = (byte) (packed >>> 6 & RANK_MASK);
+            sketch.registers[i + 3] = (byte) (packed & RANK_MASK);
+        }
+        return sketch;
+    }
+
+    // 64bit FNV-1a 후 비트 섞기 (FNV 만으로는 하위 비트 차이가 상위 비트로 덜 퍼짐)
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private boolean offerRegister(int register, int rank) {
+        return registers == null ? offerSparse(register, rank) : offerDense(register, rank);
+    }
+
+    private boolean offerDense(int register, int rank) {
+        if (registers[register] >= rank) {
+            return false;
+        }
+        registers[register] = (byte) rank;
+        return true;
+    }
+
+    private boolean offerSparse(int register, int rank) {
+        char key = (char) (register << RANK_BITS);
+        int i = Arrays.binarySearch(sparse, 0, sparseSize, key);
+        // 같은 레지스터 rank 가 몇이든 key(rank 0) 바로 뒤에 옴
+        int at = i >= 0 ? i : -i - 1;
+        if (at < sparseSize && sparse[at] >>> RANK_BITS == register) {
+            if ((sparse[at] & RANK_MASK) >= rank) {
+                return false;
+            }
+            sparse[at] = (char) (key | rank);
+            return true;
+        }
+        if (sparseSize + 1 > M / 2) {
+            toDense();
+            return offerDense(register, rank);
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        System.arraycopy(sparse, at, sparse, at + 1, sparseSize - at);
+        sparse[at] = (char) (key | rank);
+        sparseSize++;
+        return true;
+    }
+
+    private void toDense() {
+        if (registers != null) {
+            return;
+        }
+        registers = new byte[M];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> RANK_BITS] = (byte) (sparse[i] & RANK_MASK);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+}
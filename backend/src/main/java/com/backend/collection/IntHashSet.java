@@ -0,0 +1,116 @@
+package com.backend.collection;
+
+// int 전용 해시 셋 (open addressing, linear probing)
+// Integer 박싱 없이 원소당 4~8 byte
+// 삭제는 뒤쪽 원소를 당겨오는 방식이라 tombstone 이 없음
+// 동기화는 호출 쪽에서
+public class IntHashSet {
+    private static final int EMPTY = 0;
+
+    private int[] slots;
+    private int size;
+    // 0 은 빈 칸 표시로 쓰므로 따로 보관
+    private boolean hasZero;
+
+    public IntHashSet() {
+        this(4);
+    }
+
+    public IntHashSet(int expected) {
+        int capacity = 8;
+        while (capacity * 3 / 4 < expected) {
+            capacity <<= 1;
+        }
+        slots = new int[capacity];
+    }
+
+    public int size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return hasZero;
+        }
+        int mask = slots.length - 1;
+        for (int i = hash(value) & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (slots[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 새로 추가됐으면 true
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            boolean added = !hasZero;
+            hasZero = true;
+            return added;
+        }
+        int mask = slots.length - 1;
+        int i = hash(value) & mask;
+        while (slots[i] != EMPTY) {
+            if (slots[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+        size++;
+        if (size * 4 > slots.length * 3) {
+            rehash(slots.length * 2);
+        }
+        return true;
+    }
+
+    // 있어서 지웠으면 true
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            boolean removed = hasZero;
+            hasZero = false;
+            return removed;
+        }
+        int mask = slots.length - 1;
+        int i = hash(value) & mask;
+        while (slots[i] != value) {
+            if (slots[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        // 빈 칸이 생기면 그 뒤 probe 체인의 원소를 당겨옴
+        int gap = i;
+        for (int j = (gap + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(slots[j]) & mask;
+            // home 이 (gap, j] 구간 밖이면 gap 으로 옮겨도 찾을 수 있음
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                slots[gap] = slots[j];
+                gap = j;
+            }
+        }
+        slots[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int value : old) {
+            if (value != EMPTY) {
+                int i = hash(value) & mask;
+                while (slots[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = value;
+            }
+        }
+    }
+
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
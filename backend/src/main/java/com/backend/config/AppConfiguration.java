@@ -7,7 +7,11 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.net.URI;
 
 @Configuration
 public class AppConfiguration {
@@ -19,16 +23,49 @@ public class AppConfiguration {
     @Value("${aws.secret.key}")
     String secretKey;
 
+    // 비어 있으면 AWS, 값이 있으면 로컬 S3 호환 서버 (MinIO 등) 주소
+    @Value("${aws.s3.endpoint:}")
+    String endpoint;
+
+    // 이 크기 이상이면 multipart 업로드
+    @Value("${aws.s3.multipart-threshold-bytes:8388608}")
+    long multipartThresholdBytes;
+
+    @Value("${aws.s3.multipart-part-bytes:8388608}")
+    long multipartPartBytes;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
         AwsCredentialsProvider provider = StaticCredentialsProvider.create(credentials);
-        S3Client s3Client = S3Client.builder()
+        var builder = S3Client.builder()
                 .region(Region.AP_NORTHEAST_2)
-                .credentialsProvider(provider)
-                .build();
+                .credentialsProvider(provider);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        S3Client s3Client = builder.build();
         return s3Client;
     }
 
+    // 게시물 첨부파일 병렬 업로드용
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        AwsCredentialsProvider provider = StaticCredentialsProvider.create(credentials);
+        var builder = S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(provider)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartBytes)
+                        .build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
 
-}
\ No newline at end of file
+}
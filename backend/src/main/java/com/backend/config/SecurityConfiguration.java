@@ -1,6 +1,5 @@
 package com.backend.config;
 
-import com.backend.mapper.member.LoginCheckMapper;
 import com.backend.mapper.member.RefreshMapper;
 import com.backend.oauth2.CustomSuccessHandler;
 import com.backend.security.CustomLoginFilter;
@@ -35,15 +34,13 @@ public class SecurityConfiguration {
     // JWTUtil 주입
     private final JWTUtil jwtUtil;
     private final RefreshMapper refreshMapper;
-    private final LoginCheckMapper loginCheckMapper;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
 
-    public SecurityConfiguration(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil, RefreshMapper refreshMapper, LoginCheckMapper loginCheckMapper, CustomOAuth2UserService customOAuth2UserService, CustomSuccessHandler customSuccessHandler) {
+    public SecurityConfiguration(AuthenticationConfiguration authenticationConfiguration, JWTUtil jwtUtil, RefreshMapper refreshMapper, CustomOAuth2UserService customOAuth2UserService, CustomSuccessHandler customSuccessHandler) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
         this.refreshMapper = refreshMapper;
-        this.loginCheckMapper = loginCheckMapper;
         this.customOAuth2UserService = customOAuth2UserService;
         this.customSuccessHandler = customSuccessHandler;
     }
@@ -92,8 +89,8 @@ public class SecurityConfiguration {
 
         // 필터 추가
         http.addFilterBefore(new JWTFilter(jwtUtil), CustomLoginFilter.class);
-        http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshMapper, loginCheckMapper), LogoutFilter.class);
-        http.addFilterAt(new CustomLoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshMapper, loginCheckMapper), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshMapper), LogoutFilter.class);
+        http.addFilterAt(new CustomLoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshMapper), UsernamePasswordAuthenticationFilter.class);
 
         //oauth2
         http.oauth2Login((oauth2) -> oauth2
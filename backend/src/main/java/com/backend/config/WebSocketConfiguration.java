@@ -1,23 +1,73 @@
 package com.backend.config;
 
-import org.springframework.context.annotation.Bean;
+import com.backend.security.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+// chat.broker.mode=simple: 구독을 이 JVM 메모리에서 관리 (서버 한 대일 때 기본값)
+// chat.broker.mode=relay: /topic 을 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ 등)로 중계 -> 서버 여러 대가 같은 채팅방 공유
+//   게시물 쪽 메모리 상태까지 여러 대로 맞추려면 app.cluster.enabled 도 켬 (relay 프로필, BoardClusterEvents 가 같은 브로커 사용)
+// 클라이언트 프레임은 StompAuthChannelInterceptor 가 먼저 봄 (CONNECT 토큰 확인, 접속 상태 구독 권한)
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor authInterceptor;
+
+    public WebSocketConfiguration(StompAuthChannelInterceptor authInterceptor) {
+        this.authInterceptor = authInterceptor;
+    }
+
+    @Value("${chat.broker.mode:simple}")
+    String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    String relayPasscode;
+
+    // 비어 있으면 CONNECT 에 host 헤더를 넣지 않음 (RabbitMQ 는 vhost 이름)
+    @Value("${chat.broker.relay.virtual-host:}")
+    String relayVirtualHost;
+
     @Override
-    public void configureMessageBroker(org.springframework.messaging.simp.config.MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+    public void configureMessageBroker(MessageBrokerRegistry config) {
+        switch (brokerMode) {
+            case "simple" -> config.enableSimpleBroker("/topic");
+            case "relay" -> {
+                var relay = config.enableStompBrokerRelay("/topic")
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode);
+                if (!relayVirtualHost.isBlank()) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+            }
+            default -> throw new IllegalArgumentException("chat.broker.mode must be simple or relay: " + brokerMode);
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(authInterceptor);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
@@ -25,4 +75,4 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
                 .withSockJS();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.backend.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// 조건부 GET: If-None-Match 가 같으면 304 (본문을 만들기 전에 확인)
+// Cache-Control: no-cache 를 직접 달아야 Spring Security 기본값(no-store)이 붙지 않아서 브라우저가 저장해 두고 다시 물어봄
+public final class ConditionalGet {
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(ServletWebRequest request, String etag) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return request.checkNotModified(etag);
+    }
+}
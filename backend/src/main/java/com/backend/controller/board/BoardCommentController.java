@@ -1,18 +1,28 @@
 package com.backend.controller.board;
 
+import com.backend.controller.ConditionalGet;
 import com.backend.domain.board.BoardComment;
+import com.backend.domain.member.Role;
 import com.backend.service.board.BoardCommentServivce;
+import com.backend.service.board.BoardVersions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/comment")
 public class BoardCommentController {
     final BoardCommentServivce service;
+    final BoardVersions versions;
 
     @PostMapping("add")
     public ResponseEntity addComment(BoardComment comment) {
@@ -29,11 +39,41 @@ public class BoardCommentController {
     }
 
     @GetMapping("list/{boardId}")
-    public List<BoardComment> listComment(@PathVariable Integer boardId) {
+    public List<BoardComment> listComment(@PathVariable Integer boardId, ServletWebRequest request) {
 //        System.out.println("이것은 comment의 get요청 boardId = " + boardId);
+        if (ConditionalGet.notModified(request, versions.commentsTag(boardId))) {
+            return null;
+        }
         return service.list(boardId);
     }
 
+    // 댓글 id 커서 페이지 (before / after 중 하나, 없으면 처음부터)
+    @GetMapping("page/{boardId}")
+    public ResponseEntity<Map<String, Object>> page(@PathVariable Integer boardId,
+                                                    @RequestParam(required = false) Integer before,
+                                                    @RequestParam(required = false) Integer after,
+                                                    @RequestParam(defaultValue = "20") Integer limit,
+                                                    ServletWebRequest request) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (ConditionalGet.notModified(request, versions.commentsTag(boardId))) {
+            return null;
+        }
+        return ResponseEntity.ok(service.page(boardId, before, after, limit));
+    }
+
+    // 관리자용 전체 내보내기 (JSON 배열을 스트리밍)
+    @GetMapping("export/{boardId}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Integer boardId, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> service.export(boardId, out));
+    }
+
     @DeleteMapping("remove")
     public ResponseEntity removeComment(@RequestBody BoardComment boardComment) {
 //        System.out.println("컨트롤러의 comment = " + boardComment);
@@ -48,4 +88,10 @@ public class BoardCommentController {
         return ResponseEntity.ok().build();
     }
 
+    // 토큰 발급 경로에 따라 ROLE_ADMIN / ADMIN 두 가지로 들어옴
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> Role.ADMIN.getValue().equals(authority.getAuthority())
+                                       || Role.ADMIN.name().equals(authority.getAuthority()));
+    }
 }
@@ -1,14 +1,21 @@
 package com.backend.controller.board;
 
+import com.backend.controller.ConditionalGet;
 import com.backend.domain.board.Board;
 import com.backend.domain.board.DeleteRequest;
+import com.backend.security.MemberIdResolver;
 import com.backend.service.board.BoardService;
+import com.backend.service.board.BoardSuggestService;
+import com.backend.service.board.BoardUniqueViews;
+import com.backend.service.board.BoardVersions;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -19,6 +26,9 @@ import java.util.Map;
 @RequestMapping("/api/board")
 public class BoardController {
     final BoardService service;
+    final BoardVersions versions;
+    final BoardSuggestService suggestService;
+    final MemberIdResolver memberIdResolver;
     private final DefaultAuthenticationEventPublisher authenticationEventPublisher;
 
     @PostMapping("add")
@@ -41,24 +51,58 @@ public class BoardController {
     }
 
     @GetMapping("list")
-    public Map<String, Object> list(@RequestParam(defaultValue = "1") Integer page,
+    public ResponseEntity<Map<String, Object>> list(@RequestParam(defaultValue = "1") Integer page,
                                     @RequestParam(defaultValue = "30") Integer pageAmount,
                                     @RequestParam(defaultValue = "false") Boolean offsetReset,
                                     HttpSession session,
                                     @RequestParam(defaultValue = "전체") String boardType,
                                     @RequestParam(defaultValue = "전체") String searchType,
-                                    @RequestParam(defaultValue = "") String keyword) throws Exception {
+                                    @RequestParam(defaultValue = "") String keyword,
+                                    @RequestParam(defaultValue = "page") String mode,
+                                    @RequestParam(required = false) String cursor,
+                                    ServletWebRequest request) throws Exception {
+        // 목록이 바뀌지 않았으면 쿼리 없이 304
+        if (ConditionalGet.notModified(request, versions.listTag())) {
+            return null;
+        }
 //        System.out.println("page = " + page);
 //        System.out.println("이것은 서비스의 searchType = " + searchType);
-        return service.list(page, pageAmount, offsetReset, session, boardType, searchType, keyword);
+        // mode=cursor 이면 번호 페이지 대신 커서 페이징
+        if (mode.equals("cursor")) {
+            try {
+                return ResponseEntity.ok(service.cursorList(cursor, pageAmount, boardType, searchType, keyword));
+            } catch (IllegalArgumentException e) {
+                // 잘못된 cursor / pageAmount
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(service.list(page, pageAmount, offsetReset, session, boardType, searchType, keyword));
+    }
+
+    // 검색창 자동완성 (제목 / 작성자 닉네임, 인기순)
+    @GetMapping("suggest")
+    public ResponseEntity<List<Map<String, Object>>> suggest(@RequestParam(defaultValue = "") String keyword,
+                                                             @RequestParam(defaultValue = "전체") String searchType,
+                                                             @RequestParam(defaultValue = "10") Integer limit) {
+        if (limit < 1 || limit > 20) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(suggestService.suggest(keyword, searchType, limit));
     }
 
     @GetMapping("{id}")
-    public Map<String, Object> get(@PathVariable Integer id, @RequestParam(required = false) Integer memberId) {
+    public Map<String, Object> get(@PathVariable Integer id, @RequestParam(required = false) Integer memberId,
+                                   ServletWebRequest request, Authentication authentication) {
 
         System.out.println("컨트롤러의 get요청 memberId = " + memberId);
 
-        return service.getByBoardIdAndMemberId(id, memberId);
+        // 순 조회자는 토큰으로 확인한 회원만 회원 id 로 셈 (memberId 파라미터는 좋아요 표시용)
+        String viewer = BoardUniqueViews.viewer(memberIdResolver.resolve(authentication), request.getRequest().getRemoteAddr());
+        if (ConditionalGet.notModified(request, versions.detailTag(id, memberId))) {
+            service.viewed(id, viewer);
+            return null;
+        }
+        return service.getByBoardIdAndMemberId(id, memberId, viewer);
 
     }
 
@@ -107,7 +151,12 @@ public class BoardController {
 //            return ResponseEntity.badRequest().build();
 //        }
 
-        return ResponseEntity.ok(service.like(req));
+        try {
+            return ResponseEntity.ok(service.like(req));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 id 이거나 없는 게시물
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PostMapping("/report")
@@ -148,15 +197,11 @@ public class BoardController {
         Integer memberId = deleteRequest.getMemberId();
         System.out.println("memberId = " + memberId);
 
-        for (Integer id : ids) {
-            if (!service.hasAccess(id, memberId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-            }
+        if (!service.hasAccessAll(ids, memberId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        for (Integer id : ids) {
-            service.delete(id);
-        }
+        service.deleteAll(ids);
 
         return ResponseEntity.ok().build();
     }
@@ -173,6 +218,15 @@ public class BoardController {
         return ResponseEntity.ok(popularBoards);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<Board>> getTrendingBoards(@RequestParam(defaultValue = "전체") String boardType,
+                                                         @RequestParam(defaultValue = "10") Integer limit) {
+        if (limit < 1 || limit > 50) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getTrendingBoards(boardType, limit));
+    }
+
     @GetMapping("/topLikedImages")
     public ResponseEntity<List<Map<String, Object>>> getTopLikedImages() {
         List<Map<String, Object>> topLikedImages = service.getTopLikedImages();
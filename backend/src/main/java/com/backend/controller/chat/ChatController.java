@@ -1,20 +1,26 @@
 package com.backend.controller.chat;
 
 import com.backend.domain.chat.ChatMessage;
+import com.backend.security.StompAuthChannelInterceptor.MemberPrincipal;
+import com.backend.service.chat.ChatMessageWriter;
 import com.backend.service.chat.MessageService;
+import com.backend.service.chat.RecentChatMessages;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,29 +28,52 @@ import java.util.List;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class ChatController {
+	private static final Logger logger = LoggerFactory.getLogger(ChatController.class);
 	private final MessageService service;
 	private final SimpMessageSendingOperations messagingTemplate;
+	private final ChatMessageWriter writer;
+	private final RecentChatMessages recentMessages;
 
 	@MessageMapping("/chat/{roomId}")
-	public void processMessage(@Payload ChatMessage message, @DestinationVariable String roomId) {
+	public void processMessage(@Payload ChatMessage message, @DestinationVariable String roomId, Principal principal) {
+		// 보낸 사람은 연결의 회원 (StompAuthChannelInterceptor 가 비회원 SEND 는 이미 버림)
+		if (!(principal instanceof MemberPrincipal member)) {
+			return;
+		}
+		if (message.getSenderId() != null && !message.getSenderId().equals(member.memberId())) {
+			logger.warn("chat message dropped: senderId {} sent by member {}", message.getSenderId(), member.memberId());
+			return;
+		}
+		message.setSenderId(member.memberId());
+		if (!service.validate(message)) {
+			return;
+		}
+		// 저장되는 대화 키와 방송하는 방이 같아야 함
+		if (!roomId.equals(RecentChatMessages.conversationKey(message.getSenderId(), message.getRecipientId()))) {
+			logger.warn("chat message dropped: room {} for {} -> {}", roomId, message.getSenderId(), message.getRecipientId());
+			return;
+		}
 		message.setTimestamp(LocalDateTime.now()); // 현재 시간 설정
+		// 버퍼에 먼저 넣음 (저장이 실패하면 writer 가 버퍼에서 빼므로)
+		recentMessages.broadcast(message);
+		// 저장은 큐에 넣고 모아서 (클라이언트가 따로 POST 하지 않음)
+		writer.accept(message);
 		messagingTemplate.convertAndSend("/topic/chatroom/" + roomId, message);
 	}
 
-	@PostMapping("/chat")
-	@ResponseBody
-	public void saveMessage(@RequestBody ChatMessage message) {
-		System.out.println("Received message: " + message);
-		service.saveMessage(message);
-	}
-
 	@GetMapping("/chat/messages/{roomId}")
 	@ResponseBody
-	public List<ChatMessage> getMessagesForRoom(@PathVariable String roomId) {
+	public ResponseEntity<List<ChatMessage>> getMessagesForRoom(@PathVariable String roomId,
+																@RequestParam(required = false) Integer before,
+																@RequestParam(defaultValue = "50") Integer limit) {
+		if (limit < 1 || limit > 200) {
+			return ResponseEntity.badRequest().build();
+		}
 		// roomId를 senderId와 recipientId로 분리
 		String[] ids = roomId.split("-");
 		Integer id1 = Integer.parseInt(ids[0]);
 		Integer id2 = Integer.parseInt(ids[1]);
-		return service.getMessagesForRoom(id1, id2);
+		// 최신순 (limit 보다 적게 오면 마지막 페이지)
+		return ResponseEntity.ok(service.getMessagesForRoom(id1, id2, before, limit));
 	}
 }
@@ -3,9 +3,12 @@ package com.backend.controller.friends;
 import com.backend.domain.friends.FriendDto;
 import com.backend.domain.friends.FriendRequest;
 import com.backend.service.friends.FriendsService;
+import com.backend.service.friends.PresenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,10 +18,18 @@ import java.util.List;
 public class FriendsController {
 
 	private final FriendsService friendsService;
+	private final PresenceService presenceService;
 	private static final Logger logger = LoggerFactory.getLogger(FriendsController.class);
 
-	public FriendsController(FriendsService friendsService) {
+	public FriendsController(FriendsService friendsService, PresenceService presenceService) {
 		this.friendsService = friendsService;
+		this.presenceService = presenceService;
+	}
+
+	// 접속 상태 연결이 살아 있음 (STOMP /app/presence/heartbeat)
+	@MessageMapping("/presence/heartbeat")
+	public void heartbeat(SimpMessageHeaderAccessor headerAccessor) {
+		presenceService.heartbeat(headerAccessor.getSessionId());
 	}
 
 	@GetMapping("/{memberId}")
@@ -1,14 +1,18 @@
 package com.backend.controller.place;
 
+import com.backend.domain.member.Role;
 import com.backend.domain.place.HospitalComment;
 import com.backend.service.place.HospitalCommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/hospitalComment")
@@ -36,6 +40,29 @@ public class HospitalCommentController {
         return service.list(hospitalId);
     }
 
+    // 댓글 id 커서 페이지 (before / after 중 하나, 없으면 처음부터)
+    @GetMapping("page/{hospitalId}")
+    public ResponseEntity<Map<String, Object>> page(@PathVariable Integer hospitalId,
+                                                    @RequestParam(required = false) Integer before,
+                                                    @RequestParam(required = false) Integer after,
+                                                    @RequestParam(defaultValue = "20") Integer limit) {
+        if (limit < 1 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.page(hospitalId, before, after, limit));
+    }
+
+    // 관리자용 전체 내보내기 (JSON 배열을 스트리밍)
+    @GetMapping("export/{hospitalId}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Integer hospitalId, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> service.export(hospitalId, out));
+    }
+
     @DeleteMapping("remove")
     public ResponseEntity remove(@RequestBody HospitalComment hospitalComment
     ) {
@@ -61,5 +88,10 @@ public class HospitalCommentController {
 
     }
 
-
+    // 토큰 발급 경로에 따라 ROLE_ADMIN / ADMIN 두 가지로 들어옴
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> Role.ADMIN.getValue().equals(authority.getAuthority())
+                                       || Role.ADMIN.name().equals(authority.getAuthority()));
+    }
 }
@@ -1,5 +1,6 @@
 package com.backend.controller.place;
 
+import com.backend.controller.ConditionalGet;
 import com.backend.domain.place.Hospital;
 import com.backend.service.place.PlaceService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/place/map")
@@ -16,8 +18,10 @@ public class PlaceController {
     private final PlaceService service;
 
     @GetMapping("{id}")
-    public Hospital get(@PathVariable Integer id) {
-
+    public Hospital get(@PathVariable Integer id, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, service.tag(id))) {
+            return null;
+        }
         return service.get(id);
 
     }
@@ -18,6 +18,8 @@ public class Board {
     private Integer memberId;
     private LocalDateTime inserted;
     private Integer views;
+    // 순 조회자 수 추정값 (BoardUniqueViews)
+    private Integer uniqueViews;
     private String boardType;
     private String repoterId;
     private String repoterNickname;
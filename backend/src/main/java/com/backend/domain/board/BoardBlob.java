@@ -0,0 +1,17 @@
+package com.backend.domain.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 내용(SHA-256) 기준으로 한 번만 저장하는 첨부파일 본문
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardBlob {
+    private String hash;
+    private Long size;
+    private String contentType;
+    // 이번 요청에서 늘릴 참조 수
+    private Integer refCount;
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.board;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 게시물 상세 한 번에 조회한 결과 (파일 / 댓글은 JSON 배열 문자열)
+@Data
+public class BoardDetail {
+    private Integer id;
+    private String title;
+    private String content;
+    private LocalDateTime inserted;
+    private String writer;
+    private Integer memberId;
+    private Integer views;
+    private String boardType;
+
+    // [{"name": ..., "hash": ...}]
+    private String files;
+    private Integer likeCount;
+    private Boolean liked;
+    private String comments;
+}
@@ -0,0 +1,13 @@
+package com.backend.domain.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardLike {
+    private Integer boardId;
+    private Integer memberId;
+}
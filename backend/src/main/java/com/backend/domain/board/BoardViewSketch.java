@@ -0,0 +1,14 @@
+package com.backend.domain.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 게시물별 순 조회자 HyperLogLog (HyperLogLog.toBytes)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardViewSketch {
+    private Integer boardId;
+    private byte[] sketch;
+}
@@ -5,7 +5,8 @@ import java.time.LocalDateTime;
 
 @Data
 public class ChatMessage {
-	private Integer id; // 자동 증가 ID 필드
+	// 자동 증가 ID 필드, 방송 후 ChatMessageWriter 스레드가 저장하면서 채움 (최근 메시지 버퍼에서 읽으므로 volatile)
+	private volatile Integer id;
 	private Integer senderId;
 	private Integer recipientId;
 	private String content;
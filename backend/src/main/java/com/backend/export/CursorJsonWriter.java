@@ -0,0 +1,47 @@
+package com.backend.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+// MyBatis Cursor 결과를 한 행씩 JSON 배열로 씀 (전체 목록을 메모리에 올리지 않음)
+// Cursor 는 SqlSession 이 열려 있는 동안만 읽을 수 있어서 읽기 전용 트랜잭션 안에서 끝까지 씀
+@Component
+public class CursorJsonWriter {
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+
+    public CursorJsonWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    public <T> void write(OutputStream out, Supplier<Cursor<T>> query) throws IOException {
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (JsonGenerator generator = objectMapper.createGenerator(out);
+                     Cursor<T> cursor = query.get()) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartArray();
+                    for (T row : cursor) {
+                        generator.writeObject(row);
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.backend.mapper.board;
+
+import com.backend.domain.board.BoardBlob;
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface BoardBlobMapper {
+
+    // 업로드 전에 참조부터 잡아 둠 (수거 대상에서 빠지도록)
+    @Insert("""
+            <script>
+            INSERT INTO board_blob (hash, size, content_type, ref_count)
+            VALUES
+            <foreach collection="blobs" item="blob" separator=",">
+                (#{blob.hash}, #{blob.size}, #{blob.contentType}, #{blob.refCount})
+            </foreach>
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + VALUES(ref_count)
+            </script>
+            """)
+    int acquire(@Param("blobs") List<BoardBlob> blobs);
+
+    // S3 에 이미 올라가 있는 것 (나머지만 PUT)
+    @Select("""
+            <script>
+            SELECT hash
+            FROM board_blob
+            WHERE stored
+              AND hash IN
+            <foreach collection="hashes" item="hash" open="(" separator="," close=")">
+                #{hash}
+            </foreach>
+            </script>
+            """)
+    List<String> selectStored(@Param("hashes") Collection<String> hashes);
+
+    @Update("""
+            <script>
+            UPDATE board_blob
+            SET stored = TRUE
+            WHERE hash IN
+            <foreach collection="hashes" item="hash" open="(" separator="," close=")">
+                #{hash}
+            </foreach>
+            </script>
+            """)
+    int markStored(@Param("hashes") Collection<String> hashes);
+
+    // hash -> 줄일 참조 수
+    @Update("""
+            <script>
+            UPDATE board_blob
+            SET ref_count = ref_count - CASE hash
+            <foreach collection="counts" index="hash" item="count">
+                WHEN #{hash} THEN #{count}
+            </foreach>
+            END
+            WHERE hash IN
+            <foreach collection="counts" index="hash" open="(" separator="," close=")">
+                #{hash}
+            </foreach>
+            </script>
+            """)
+    int release(@Param("counts") Map<String, Integer> counts);
+
+    // 게시물 삭제 시 board_file 을 지우기 전에 호출
+    @Update("""
+            <script>
+            UPDATE board_blob b
+            JOIN (SELECT hash, COUNT(*) cnt
+                  FROM board_file
+                  WHERE hash IS NOT NULL
+                    AND board_id IN
+                  <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                      #{boardId}
+                  </foreach>
+                  GROUP BY hash) f ON b.hash = f.hash
+            SET b.ref_count = b.ref_count - f.cnt
+            </script>
+            """)
+    int releaseByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
+    @Update("""
+            UPDATE board_blob
+            SET widths = #{widths}
+            WHERE hash = #{hash}
+            """)
+    int updateWidths(String hash, String widths);
+
+    // 참조가 없어진 지 graceSeconds 가 지난 것 (수거하는 동안 다른 요청이 참조를 잡지 못하게 잠금)
+    @Select("""
+            SELECT hash
+            FROM board_blob
+            WHERE ref_count <= 0
+              AND updated < NOW() - INTERVAL #{graceSeconds} SECOND
+            ORDER BY updated
+            LIMIT #{limit}
+            FOR UPDATE
+            """)
+    List<String> selectUnreferencedForUpdate(Integer graceSeconds, Integer limit);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_blob
+            WHERE hash IN
+            <foreach collection="hashes" item="hash" open="(" separator="," close=")">
+                #{hash}
+            </foreach>
+            </script>
+            """)
+    int deleteByHashes(@Param("hashes") List<String> hashes);
+
+    // board_file 기준으로 참조 수 다시 계산
+    // 업로드 중인 요청이 잡아 둔 참조를 건드리지 않도록 한동안 바뀌지 않은 것만
+    @Update("""
+            UPDATE board_blob b
+            LEFT JOIN (SELECT hash, COUNT(*) cnt
+                       FROM board_file
+                       WHERE hash IS NOT NULL
+                       GROUP BY hash) f ON b.hash = f.hash
+            SET b.ref_count = COALESCE(f.cnt, 0)
+            WHERE b.updated < NOW() - INTERVAL 1 DAY
+              AND b.ref_count <> COALESCE(f.cnt, 0)
+            """)
+    int reconcile();
+}
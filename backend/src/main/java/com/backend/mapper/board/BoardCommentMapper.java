@@ -2,6 +2,7 @@ package com.backend.mapper.board;
 
 import com.backend.domain.board.BoardComment;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -25,12 +26,54 @@ public interface BoardCommentMapper {
                         """)
     List<BoardComment> selectAllByBoardId(Integer boardId);
 
+    // 댓글 id 기준 keyset 페이지 (board_id 인덱스 = (board_id, id))
+    // before 만 있으면 그 앞쪽을 id 내림차순으로 읽음 (서비스에서 뒤집음)
+    @Select("""
+            <script>
+            SELECT c.id, c.board_id, c.board_comment, c.inserted, m.nickname writer, c.member_id
+            FROM board_comment c
+            JOIN member m ON c.member_id = m.id
+            WHERE c.board_id = #{boardId}
+            <if test="after != null">
+                AND c.id &gt; #{after}
+            </if>
+            <if test="before != null">
+                AND c.id &lt; #{before}
+            </if>
+            ORDER BY c.id
+            <if test="before != null and after == null">
+                DESC
+            </if>
+            LIMIT #{limit}
+            </script>
+            """)
+    List<BoardComment> selectPage(@Param("boardId") Integer boardId, @Param("before") Integer before,
+                                  @Param("after") Integer after, @Param("limit") Integer limit);
+
+    // 내보내기용: 드라이버가 fetchSize 만큼씩 스트리밍
+    @Select("""
+            SELECT c.id, c.board_id, c.board_comment, c.inserted, m.nickname writer, c.member_id
+            FROM board_comment c
+            JOIN member m ON c.member_id = m.id
+            WHERE c.board_id = #{boardId}
+            ORDER BY c.id
+            """)
+    @Options(fetchSize = 500)
+    Cursor<BoardComment> selectCursorByBoardId(Integer boardId);
+
     @Delete("""
             DELETE FROM board_comment
             WHERE id=#{id}
             """)
     int deleteById(Integer id);
 
+    @Select("""
+            SELECT board_id
+            FROM board_comment
+            WHERE id = #{id}
+            """)
+    Integer selectBoardIdById(Integer id);
+
     @Update("""
             UPDATE  board_comment
             SET board_comment=#{boardComment}
@@ -50,4 +93,15 @@ public interface BoardCommentMapper {
 
                         """)
     int deleteByBoardId(Integer boardId);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_comment
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int deleteByBoardIds(@Param("boardIds") List<Integer> boardIds);
 }
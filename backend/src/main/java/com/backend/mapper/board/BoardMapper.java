@@ -1,9 +1,13 @@
 package com.backend.mapper.board;
 
 import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardDetail;
+import com.backend.domain.board.BoardLike;
 import com.backend.domain.board.BoardReport;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +43,43 @@ public interface BoardMapper {
                                     """)
     Board selectById(Integer id);
 
+    // 상세 화면: 게시물 + 파일 + 좋아요 + 댓글 첫 페이지를 한 번에
+    @Select("""
+            SELECT b.id,
+                   b.title,
+                   b.content,
+                   b.inserted,
+                   m.nickname writer,
+                   b.member_id,
+                   b.views,
+                   b.board_type,
+                   (SELECT JSON_ARRAYAGG(JSON_OBJECT('name', f.name, 'hash', f.hash))
+                    FROM board_file f
+                    WHERE f.board_id = b.id) files,
+                   (SELECT COUNT(*)
+                    FROM board_like l
+                    WHERE l.board_id = b.id) like_count,
+                   EXISTS (SELECT 1
+                           FROM board_like l
+                           WHERE l.board_id = b.id
+                             AND l.member_id = #{memberId}) liked,
+                   (SELECT JSON_ARRAYAGG(
+                                   JSON_OBJECT('id', c.id,
+                                               'boardComment', c.board_comment,
+                                               'inserted', DATE_FORMAT(c.inserted, '%Y-%m-%dT%H:%i:%s'),
+                                               'writer', cm.nickname,
+                                               'memberId', c.member_id)
+                                   ORDER BY c.id
+                                   LIMIT #{commentLimit})
+                    FROM board_comment c
+                    JOIN member cm ON c.member_id = cm.id
+                    WHERE c.board_id = b.id) comments
+            FROM board b
+            JOIN member m ON b.member_id = m.id
+            WHERE b.id = #{id}
+            """)
+    BoardDetail selectDetail(@Param("id") Integer id, @Param("memberId") Integer memberId, @Param("commentLimit") Integer commentLimit);
+
     @Delete("""
             DELETE FROM board
             WHERE id = #{id}
@@ -58,6 +99,14 @@ public interface BoardMapper {
                         """)
     int selectAllCount();
 
+    // 게시판 종류별 게시물 수 (카운트 캐시 초기화용)
+    @Select("""
+            SELECT board_type AS boardType, COUNT(*) AS count
+            FROM board
+            GROUP BY board_type
+            """)
+    List<Map<String, Object>> selectCountGroupByBoardType();
+
     @Select("""
                 <script>
                 SELECT COUNT(b.id)
@@ -97,14 +146,12 @@ public interface BoardMapper {
                        b.member_id,
                       (SELECT bf.board_id FROM board_file bf WHERE bf.board_id = b.id LIMIT 1) AS fileList,
                       
-                       COUNT(DISTINCT f.name) number_of_images,
-                       COUNT(DISTINCT l.member_id) number_of_likes,
-                       COUNT(DISTINCT c.id) number_of_comments
+                       COALESCE(s.number_of_images, 0) number_of_images,
+                       COALESCE(s.number_of_likes, 0) number_of_likes,
+                       COALESCE(s.number_of_comments, 0) number_of_comments
                 FROM board b
                 JOIN member m ON b.member_id = m.id
-                LEFT JOIN board_file f ON b.id = f.board_id
-                LEFT JOIN board_like l ON b.id = l.board_id
-                LEFT JOIN board_comment c ON b.id = c.board_id
+                LEFT JOIN board_stats s ON b.id = s.board_id
                 <where>
                     <if test="boardType != null and boardType != '전체'">
                         b.board_type = #{boardType}
@@ -125,19 +172,176 @@ public interface BoardMapper {
                         </choose>
                     </if>
                 </where>
-                GROUP BY b.id, b.title, m.nickname, b.board_type, b.views, b.member_id
                 ORDER BY b.id DESC
                 LIMIT #{offset}, #{pageAmount}
                 </script>
             """)
     List<Board> selectAllPaging(@Param("offset") Integer offset, @Param("pageAmount") Integer pageAmount, @Param("boardType") String boardType, @Param("searchType") String searchType, @Param("keyword") String keyword);
 
+    // 검색 결과 id 만 최신순으로 (검색 색인 준비 전, 결과는 BoardSearchCache 에 저장)
+    @Select("""
+                <script>
+                SELECT b.id
+                FROM board b
+                JOIN member m ON b.member_id = m.id
+                <where>
+                    <if test="boardType != null and boardType != '전체'">
+                        b.board_type = #{boardType}
+                    </if>
+                    <bind name="pattern" value="'%' + keyword + '%'" />
+                    AND
+                    <choose>
+                        <when test='searchType == "글"'>
+                            (b.title LIKE #{pattern} OR b.content LIKE #{pattern})
+                        </when>
+                        <when test='searchType == "작성자"'>
+                            m.nickname LIKE #{pattern}
+                        </when>
+                        <otherwise>
+                            (b.title LIKE #{pattern} OR b.content LIKE #{pattern} OR m.nickname LIKE #{pattern})
+                        </otherwise>
+                    </choose>
+                </where>
+                ORDER BY b.id DESC
+                </script>
+            """)
+    List<Integer> selectSearchIds(@Param("boardType") String boardType, @Param("searchType") String searchType, @Param("keyword") String keyword);
+
+    // 커서(keyset) 페이징: OFFSET 없이 b.id 기준으로 seek 한 뒤 해당 id만 조인
+    @Select("""
+                <script>
+                SELECT b.id,
+                       b.title,
+                       m.nickname writer,
+                       b.board_type,
+                       b.views,
+                       b.member_id,
+                       COALESCE(s.number_of_images, 0) number_of_images,
+                       COALESCE(s.number_of_likes, 0) number_of_likes,
+                       COALESCE(s.number_of_comments, 0) number_of_comments
+                FROM (SELECT b.id
+                      FROM board b
+                      JOIN member m ON b.member_id = m.id
+                      <where>
+                          <if test="lastId != null">
+                              <choose>
+                                  <when test="prev">
+                                      b.id &gt; #{lastId}
+                                  </when>
+                                  <otherwise>
+                                      b.id &lt; #{lastId}
+                                  </otherwise>
+                              </choose>
+                          </if>
+                          <if test="boardType != null and boardType != '전체'">
+                              AND b.board_type = #{boardType}
+                          </if>
+                          <if test="searchType != null and keyword != null and keyword != ''">
+                              <bind name="pattern" value="'%' + keyword + '%'" />
+                              AND
+                              <choose>
+                                  <when test='searchType == "전체"'>
+                                      (b.title LIKE #{pattern} OR b.content LIKE #{pattern} OR m.nickname LIKE #{pattern})
+                                  </when>
+                                  <when test='searchType == "글"'>
+                                      (b.title LIKE #{pattern} OR b.content LIKE #{pattern})
+                                  </when>
+                                  <when test='searchType == "작성자"'>
+                                      m.nickname LIKE #{pattern}
+                                  </when>
+                              </choose>
+                          </if>
+                      </where>
+                      ORDER BY b.id <choose><when test="prev">ASC</when><otherwise>DESC</otherwise></choose>
+                      LIMIT #{limit}) p
+                JOIN board b ON b.id = p.id
+                JOIN member m ON b.member_id = m.id
+                LEFT JOIN board_stats s ON b.id = s.board_id
+                ORDER BY b.id DESC
+                </script>
+            """)
+    List<Board> selectPagingByCursor(@Param("lastId") Integer lastId, @Param("prev") boolean prev, @Param("limit") Integer limit, @Param("boardType") String boardType, @Param("searchType") String searchType, @Param("keyword") String keyword);
+
+    // 검색 색인에서 찾은 id 목록을 목록 형태로 채움 (순서는 호출 쪽에서 맞춤)
+    @Select("""
+                <script>
+                SELECT b.id,
+                       b.title,
+                       m.nickname writer,
+                       b.board_type,
+                       b.views,
+                       b.member_id,
+                       COALESCE(s.number_of_images, 0) number_of_images,
+                       COALESCE(s.number_of_likes, 0) number_of_likes,
+                       COALESCE(s.number_of_comments, 0) number_of_comments
+                FROM board b
+                JOIN member m ON b.member_id = m.id
+                LEFT JOIN board_stats s ON b.id = s.board_id
+                WHERE b.id IN
+                <foreach collection="ids" item="id" open="(" separator="," close=")">
+                    #{id}
+                </foreach>
+                </script>
+            """)
+    List<Board> selectAllPagingByIds(@Param("ids") List<Integer> ids);
+
+    // 인기 급상승 초기 빌드용 (since 이후 작성됐거나 댓글이 달린 게시물)
+    @Select("""
+            SELECT b.id, b.board_type, b.inserted, b.views,
+                   COALESCE(s.number_of_likes, 0) number_of_likes
+            FROM board b
+            LEFT JOIN board_stats s ON b.id = s.board_id
+            WHERE b.inserted >= #{since}
+               OR b.id IN (SELECT board_id FROM board_comment WHERE inserted >= #{since})
+            """)
+    List<Board> selectForTrending(LocalDateTime since);
+
+    @Select("""
+            SELECT board_id, inserted
+            FROM board_comment
+            WHERE inserted >= #{since}
+            """)
+    List<BoardComment> selectCommentsForTrending(LocalDateTime since);
+
+    // 검색 색인 빌드용
+    @Select("""
+            SELECT b.id, b.title, b.content, m.nickname writer, b.member_id, b.board_type
+            FROM board b
+            JOIN member m ON b.member_id = m.id
+            """)
+    List<Board> selectAllForSearchIndex();
+
+    @Select("""
+            SELECT b.id, b.title, b.content, m.nickname writer, b.member_id, b.board_type
+            FROM board b
+            JOIN member m ON b.member_id = m.id
+            WHERE b.id = #{id}
+            """)
+    Board selectForSearchIndex(Integer id);
+
+    // 자동완성 가중치 (조회수 / 좋아요)
+    @Select("""
+            SELECT b.id, b.title, b.member_id, b.views, COALESCE(s.number_of_likes, 0) number_of_likes
+            FROM board b
+            LEFT JOIN board_stats s ON s.board_id = b.id
+            """)
+    List<Board> selectForSuggest();
 
+
+    // hash: board_blob 본문 (참조는 업로드할 때 잡아 둠)
     @Insert("""
-            INSERT INTO board_file(board_id,name)
-            VALUES (#{boardId},#{name})
+            INSERT INTO board_file(board_id,name,hash)
+            VALUES (#{boardId},#{name},#{hash})
             """)
-    int insertFileName(Integer boardId, String name);
+    int insertFile(Integer boardId, String name, String hash);
+
+    // 수정 화면: 파일명 -> hash (예전 방식 파일은 null)
+    @Select("""
+            SELECT name, hash
+            FROM board_file
+            WHERE board_id=#{boardId}
+            """)
+    List<Map<String, Object>> selectFilesByBoardId(Integer boardId);
 
     @Select("""
             SELECT name
@@ -159,6 +363,73 @@ public interface BoardMapper {
             """)
     int deleteFileByBoardIdAndName(Integer boardId, String fileName);
 
+    // 같은 이름으로 다시 올린 파일
+    @Update("""
+            UPDATE board_file
+            SET hash = #{hash}
+            WHERE board_id = #{boardId}
+              AND name = #{fileName}
+            """)
+    int updateFileHash(Integer boardId, String fileName, String hash);
+
+    // 일괄 삭제용
+    @Select("""
+            <script>
+            SELECT id, member_id, board_type
+            FROM board
+            WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">
+                #{id}
+            </foreach>
+            </script>
+            """)
+    List<Board> selectOwnersByIds(@Param("ids") List<Integer> ids);
+
+    @Select("""
+            <script>
+            SELECT board_id AS boardId, name, hash
+            FROM board_file
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    List<Map<String, Object>> selectFileNamesByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_file
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int deleteFilesByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_like
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int deleteLikesByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
+    @Delete("""
+            <script>
+            DELETE FROM board
+            WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">
+                #{id}
+            </foreach>
+            </script>
+            """)
+    int deleteByIds(@Param("ids") List<Integer> ids);
+
 
     @Select("""
             SELECT views FROM board
@@ -174,6 +445,23 @@ public interface BoardMapper {
             """)
     int incrementViewsById(Integer id, Integer views);
 
+    // 조회수 일괄 반영: deltas 는 게시물 id -> 증가량
+    @Update("""
+            <script>
+            UPDATE board
+            SET views = COALESCE(views, 0) + CASE id
+                <foreach collection="deltas" index="boardId" item="count">
+                    WHEN #{boardId} THEN #{count}
+                </foreach>
+                ELSE 0 END
+            WHERE id IN
+            <foreach collection="deltas" index="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int incrementViews(@Param("deltas") Map<Integer, Long> deltas);
+
 
     @Delete("""
             DELETE FROM board_like
@@ -202,6 +490,43 @@ public interface BoardMapper {
             """)
     int selectLikeByBoardIdAndMemberId(Integer id, Integer memberId);
 
+    // 좋아요 엔진 초기 로드용
+    @Select("""
+            SELECT member_id
+            FROM board_like
+            WHERE board_id = #{boardId}
+            """)
+    List<Integer> selectLikeMemberIdsByBoardId(Integer boardId);
+
+    // 좋아요 대상 게시물 확인 (board_like / board_stats 는 board 를 참조)
+    @Select("""
+            SELECT EXISTS(SELECT 1 FROM board WHERE id = #{boardId})
+            """)
+    boolean existsById(Integer boardId);
+
+    // 좋아요 write-behind 일괄 반영
+    @Insert("""
+            <script>
+            INSERT IGNORE INTO board_like (board_id, member_id)
+            VALUES
+            <foreach collection="likes" item="like" separator=",">
+                (#{like.boardId}, #{like.memberId})
+            </foreach>
+            </script>
+            """)
+    int insertLikes(@Param("likes") List<BoardLike> likes);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_like
+            WHERE (board_id, member_id) IN
+            <foreach collection="likes" item="like" open="(" separator="," close=")">
+                (#{like.boardId}, #{like.memberId})
+            </foreach>
+            </script>
+            """)
+    int deleteLikes(@Param("likes") List<BoardLike> likes);
+
     @Select("""
                         SELECT id
                         FROM board
@@ -280,15 +605,13 @@ public interface BoardMapper {
                    b.member_id,
                    br.member_id repoterId,
                    COUNT(br.board_id) number_of_reports,
-                   COUNT(DISTINCT f.name) number_of_images,
-                   COUNT(DISTINCT l.member_id) number_of_likes,
-                   COUNT(DISTINCT c.id) number_of_comments
+                   COALESCE(s.number_of_images, 0) number_of_images,
+                   COALESCE(s.number_of_likes, 0) number_of_likes,
+                   COALESCE(s.number_of_comments, 0) number_of_comments
             FROM board b
             JOIN member m ON b.member_id = m.id
             JOIN board_report br ON b.id = br.board_id
-            LEFT JOIN board_file f ON b.id = f.board_id
-            LEFT JOIN board_like l ON b.id = l.board_id
-            LEFT JOIN board_comment c ON b.id = c.board_id
+            LEFT JOIN board_stats s ON b.id = s.board_id
             <where>
                 <if test="boardType != null and boardType != '전체'">
                     b.board_type = #{boardType}
@@ -315,7 +638,8 @@ public interface BoardMapper {
                     </choose>
                 </if>
             </where>
-            GROUP BY b.id, b.title, m.nickname, b.board_type, b.views, b.member_id, br.member_id
+            GROUP BY b.id, b.title, m.nickname, b.board_type, b.views, b.member_id, br.member_id,
+                     s.number_of_images, s.number_of_likes, s.number_of_comments
             ORDER BY b.id DESC
             LIMIT #{offset}, #{pageAmount}
             </script>
@@ -345,6 +669,23 @@ public interface BoardMapper {
             """)
     String getFileImageByboardId(@Param("boardId") String boardId);
 
+    // 목록 썸네일 일괄 조회: 게시물별 첫 번째 파일 (PK(board_id, name) 순서 기준)
+    @Select("""
+            <script>
+                SELECT f.board_id AS boardId, f.name, f.hash, bb.widths
+                FROM board_file f
+                JOIN (SELECT board_id, MIN(name) AS name
+                      FROM board_file
+                      WHERE board_id IN
+                      <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                          #{boardId}
+                      </foreach>
+                      GROUP BY board_id) first ON f.board_id = first.board_id AND f.name = first.name
+                LEFT JOIN board_blob bb ON f.hash = bb.hash
+            </script>
+            """)
+    List<Map<String, Object>> selectFirstFileNameByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
 
     @Select("""
                 SELECT b.id,
@@ -353,14 +694,12 @@ public interface BoardMapper {
                        b.board_type,
                        b.views,
                        b.member_id,
-                       COUNT(DISTINCT f.name) AS number_of_images,
-                       (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id) AS number_of_likes,
-                       COUNT(DISTINCT c.id) AS number_of_comments
+                       COALESCE(s.number_of_images, 0) AS number_of_images,
+                       COALESCE(s.number_of_likes, 0) AS number_of_likes,
+                       COALESCE(s.number_of_comments, 0) AS number_of_comments
                 FROM board b
                 JOIN member m ON b.member_id = m.id
-                LEFT JOIN board_file f ON b.id = f.board_id
-                LEFT JOIN board_comment c ON b.id = c.board_id
-                GROUP BY b.id, b.title, m.nickname, b.board_type, b.views, b.member_id
+                LEFT JOIN board_stats s ON b.id = s.board_id
                 ORDER BY b.inserted DESC
                 LIMIT 5
             """)
@@ -373,15 +712,13 @@ public interface BoardMapper {
                        b.board_type,
                        b.views,
                        b.member_id,
-                       COUNT(DISTINCT f.name) AS number_of_images,
-                       (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id) AS number_of_likes,
-                       COUNT(DISTINCT c.id) AS number_of_comments
-                FROM board b
+                       s.number_of_images,
+                       s.number_of_likes,
+                       s.number_of_comments
+                FROM board_stats s
+                JOIN board b ON b.id = s.board_id
                 JOIN member m ON b.member_id = m.id
-                LEFT JOIN board_file f ON b.id = f.board_id
-                LEFT JOIN board_comment c ON b.id = c.board_id
-                GROUP BY b.id, b.title, m.nickname, b.board_type, b.views, b.member_id
-                ORDER BY number_of_likes DESC
+                ORDER BY s.number_of_likes DESC, s.board_id DESC
                 LIMIT 5
             """)
     List<Board> selectPopularBoards();
@@ -392,11 +729,15 @@ public interface BoardMapper {
                  b.title,\s
                  m.nickname AS writer,\s
                  bf.name AS imageUrl,\s
+                 bf.hash AS imageHash,\s
+                 bb.widths AS imageWidths,\s
                  COUNT(bl.board_id) AS numberOfLikes
              FROM\s
                  board b
              JOIN\s
                  board_file bf ON b.id = bf.board_id
+             LEFT JOIN\s
+                 board_blob bb ON bf.hash = bb.hash
              JOIN\s
                  board_like bl ON b.id = bl.board_id
              JOIN\s
@@ -404,7 +745,7 @@ public interface BoardMapper {
              WHERE\s
                  b.board_type = '사진 공유'
              GROUP BY\s
-                 b.id, b.title, m.nickname, bf.name
+                 b.id, b.title, m.nickname, bf.name, bf.hash, bb.widths
              ORDER BY\s
                  numberOfLikes DESC
              LIMIT 4
@@ -418,6 +759,8 @@ public interface BoardMapper {
                     b.content,
                     m.nickname AS writer,
                     bf.name AS imageUrl,
+                    bf.hash AS imageHash,
+                    bb.widths AS imageWidths,
                     COUNT(bl.board_id) AS numberOfLikes,
                     COUNT(DISTINCT c.id) AS numberOfComments,
                     b.views,
@@ -429,6 +772,8 @@ public interface BoardMapper {
                     member m ON b.member_id = m.id
                 LEFT JOIN 
                     board_file bf ON b.id = bf.board_id
+                LEFT JOIN 
+                    board_blob bb ON bf.hash = bb.hash
                 LEFT JOIN 
                     board_like bl ON b.id = bl.board_id
                 LEFT JOIN 
@@ -438,7 +783,7 @@ public interface BoardMapper {
                 WHERE 
                     b.board_type = '반려동물 정보'
                 GROUP BY 
-                    b.id, b.title, b.content, m.nickname, bf.name, b.views, b.board_type
+                    b.id, b.title, b.content, m.nickname, bf.name, bf.hash, bb.widths, b.views, b.board_type
                 ORDER BY 
                     b.inserted DESC
                 LIMIT 4
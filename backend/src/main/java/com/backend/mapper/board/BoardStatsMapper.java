@@ -0,0 +1,98 @@
+package com.backend.mapper.board;
+
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+@Mapper
+public interface BoardStatsMapper {
+
+    @Insert("""
+            INSERT INTO board_stats (board_id, number_of_images)
+            VALUES (#{boardId}, #{numberOfImages})
+            ON DUPLICATE KEY UPDATE number_of_images = VALUES(number_of_images)
+            """)
+    int insert(Integer boardId, Integer numberOfImages);
+
+    @Insert("""
+            INSERT INTO board_stats (board_id, number_of_images)
+            VALUES (#{boardId}, GREATEST(#{delta}, 0))
+            ON DUPLICATE KEY UPDATE number_of_images = GREATEST(number_of_images + #{delta}, 0)
+            """)
+    int addImages(Integer boardId, Integer delta);
+
+    @Insert("""
+            INSERT INTO board_stats (board_id, number_of_likes)
+            VALUES (#{boardId}, GREATEST(#{delta}, 0))
+            ON DUPLICATE KEY UPDATE number_of_likes = GREATEST(number_of_likes + #{delta}, 0)
+            """)
+    int addLikes(Integer boardId, Integer delta);
+
+    @Insert("""
+            INSERT INTO board_stats (board_id, number_of_comments)
+            VALUES (#{boardId}, GREATEST(#{delta}, 0))
+            ON DUPLICATE KEY UPDATE number_of_comments = GREATEST(number_of_comments + #{delta}, 0)
+            """)
+    int addComments(Integer boardId, Integer delta);
+
+    // 댓글 삭제 전에 호출 (댓글 id 로 게시물 찾기)
+    @Update("""
+            UPDATE board_stats s
+            JOIN board_comment c ON c.board_id = s.board_id
+            SET s.number_of_comments = GREATEST(s.number_of_comments - 1, 0)
+            WHERE c.id = #{commentId}
+            """)
+    int subtractCommentByCommentId(Integer commentId);
+
+    // 회원 탈퇴 시 좋아요/댓글 삭제 전에 호출
+    @Update("""
+            UPDATE board_stats s
+            JOIN board_like l ON l.board_id = s.board_id
+            SET s.number_of_likes = GREATEST(s.number_of_likes - 1, 0)
+            WHERE l.member_id = #{memberId}
+            """)
+    int subtractLikesByMemberId(Integer memberId);
+
+    @Update("""
+            UPDATE board_stats s
+            JOIN (SELECT board_id, COUNT(*) cnt
+                  FROM board_comment
+                  WHERE member_id = #{memberId}
+                  GROUP BY board_id) c ON c.board_id = s.board_id
+            SET s.number_of_comments = GREATEST(s.number_of_comments - c.cnt, 0)
+            """)
+    int subtractCommentsByMemberId(Integer memberId);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_stats
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int deleteByBoardIds(@Param("boardIds") List<Integer> boardIds);
+
+    // 원본 테이블 기준으로 전체 재계산
+    @Insert("""
+            INSERT INTO board_stats (board_id, number_of_images, number_of_likes, number_of_comments)
+            SELECT b.id,
+                   (SELECT COUNT(*) FROM board_file f WHERE f.board_id = b.id),
+                   (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id),
+                   (SELECT COUNT(*) FROM board_comment c WHERE c.board_id = b.id)
+            FROM board b
+            ON DUPLICATE KEY UPDATE number_of_images   = VALUES(number_of_images),
+                                    number_of_likes    = VALUES(number_of_likes),
+                                    number_of_comments = VALUES(number_of_comments)
+            """)
+    int rebuildAll();
+
+    @Delete("""
+            DELETE s
+            FROM board_stats s
+            LEFT JOIN board b ON b.id = s.board_id
+            WHERE b.id IS NULL
+            """)
+    int deleteOrphans();
+}
@@ -0,0 +1,41 @@
+package com.backend.mapper.board;
+
+import com.backend.domain.board.BoardViewSketch;
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface BoardViewSketchMapper {
+
+    @Select("""
+            SELECT board_id, sketch
+            FROM board_view_sketch
+            """)
+    List<BoardViewSketch> selectAll();
+
+    // 메모리 스케치가 저장된 것까지 합친 값이므로 덮어씀
+    @Insert("""
+            <script>
+            INSERT INTO board_view_sketch (board_id, sketch)
+            VALUES
+            <foreach collection="sketches" item="item" separator=",">
+                (#{item.boardId}, #{item.sketch})
+            </foreach>
+            ON DUPLICATE KEY UPDATE sketch = VALUES(sketch)
+            </script>
+            """)
+    int upsert(@Param("sketches") List<BoardViewSketch> sketches);
+
+    @Delete("""
+            <script>
+            DELETE FROM board_view_sketch
+            WHERE board_id IN
+            <foreach collection="boardIds" item="boardId" open="(" separator="," close=")">
+                #{boardId}
+            </foreach>
+            </script>
+            """)
+    int deleteByBoardIds(@Param("boardIds") Collection<Integer> boardIds);
+}
@@ -10,12 +10,22 @@ import java.util.List;
 
 @Mapper
 public interface MessageMapper {
+	// ChatMessageWriter 가 모은 메시지를 한 문장으로 (보낸 시각은 받은 시각 그대로)
 	@Insert("""
+					<script>
 					INSERT INTO chat_message
-					    (sender_id, recipient_id, content, sender_nick_name, recipient_nick_name)
-					VALUES (#{senderId}, #{recipientId}, #{content}, #{senderNickName}, #{recipientNickName})
+					    (sender_id, recipient_id, content, sender_nick_name, recipient_nick_name, timestamp)
+					VALUES
+					<foreach collection="messages" item="message" separator=",">
+					    (#{message.senderId}, #{message.recipientId}, #{message.content}, #{message.senderNickName}, #{message.recipientNickName}, #{message.timestamp})
+					</foreach>
+					</script>
 					""")
-	void insertMessage(ChatMessage message);
+	void insertMessages(@Param("messages") List<ChatMessage> messages);
+
+	// 같은 트랜잭션(커넥션)에서 바로 앞 INSERT 의 첫 id
+	@Select("SELECT LAST_INSERT_ID()")
+	int selectLastInsertId();
 
 	@Select("""
 					SELECT *
@@ -33,12 +43,19 @@ public interface MessageMapper {
         """)
 	List<ChatMessage> findMessagesByRoomId(String roomId);
 
+	// 대화방 한 페이지, 최신순 (conversation_key = "작은id-큰id", idx_chat_message_conversation 범위 스캔)
+	// before 가 있으면 그 id 보다 앞 메시지
 	@Select("""
+        <script>
         SELECT *
         FROM chat_message
-        WHERE (sender_id = #{senderId} AND recipient_id = #{recipientId})
-        OR (sender_id = #{recipientId} AND recipient_id = #{senderId})
-        ORDER BY timestamp
+        WHERE conversation_key = #{conversationKey}
+        <if test="before != null">
+            AND id &lt; #{before}
+        </if>
+        ORDER BY id DESC
+        LIMIT #{limit}
+        </script>
         """)
-	List<ChatMessage> findMessagesByRoom(@Param("senderId") Integer senderId, @Param("recipientId") Integer recipientId);
+	List<ChatMessage> selectRoomPage(@Param("conversationKey") String conversationKey, @Param("before") Integer before, @Param("limit") Integer limit);
 }
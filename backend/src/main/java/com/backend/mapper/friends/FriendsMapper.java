@@ -9,15 +9,23 @@ import java.util.List;
 @Mapper
 public interface FriendsMapper {
 
+	// online 은 PresenceService 가 채움 (FriendDto 의 3 인자 생성자에 맞춤)
 	@Select("""
-        SELECT m.id, m.nickname, COALESCE(lc.login_check, false) AS online
+        SELECT m.id, m.nickname, FALSE AS online
         FROM friends f
         JOIN member m ON f.friend_id = m.id
-        LEFT JOIN login_check lc ON m.nickname = lc.member_nickname
         WHERE f.member_id = #{memberId}
     """)
 	List<FriendDto> selectFriendsById(@Param("memberId") Integer memberId);
 
+	// 나를 친구 목록에 가진 회원 (접속 상태 알림 대상)
+	@Select("""
+        SELECT member_id
+        FROM friends
+        WHERE friend_id = #{friendId}
+    """)
+	List<Integer> selectMemberIdsByFriendId(@Param("friendId") Integer friendId);
+
 	@Insert("""
     INSERT INTO friends (member_id, friend_id, member_nickname, friend_nickname)
     VALUES (
@@ -3,6 +3,8 @@ package com.backend.mapper.member;
 import com.backend.domain.member.LoginEntity;
 import org.apache.ibatis.annotations.*;
 
+import java.util.List;
+
 @Mapper
 public interface LoginCheckMapper {
 
@@ -13,19 +15,41 @@ public interface LoginCheckMapper {
             """)
     LoginEntity findByMemberNickname(@Param("memberNickname") String memberNickname);
 
+    // PresenceService 가 모아서 저장
     @Insert("""
-                INSERT INTO login_check (member_nickname, login_check, login_logout_time)
-                VALUES (#{memberNickname}, #{loginCheck}, CURRENT_TIMESTAMP)
-                ON DUPLICATE KEY UPDATE
-                    login_check = VALUES(login_check),
-                    login_logout_time = CURRENT_TIMESTAMP
+            <script>
+            INSERT INTO login_check (member_nickname, login_check, login_logout_time)
+            VALUES
+            <foreach collection="rows" item="row" separator=",">
+                (#{row.memberNickname}, #{row.loginCheck}, CURRENT_TIMESTAMP)
+            </foreach>
+            ON DUPLICATE KEY UPDATE
+                login_check = VALUES(login_check),
+                login_logout_time = CURRENT_TIMESTAMP
+            </script>
             """)
-    void upsertLoginCheck(LoginEntity loginEntity);
+    void upsertLoginChecks(@Param("rows") List<LoginEntity> rows);
 
     @Update("""
             UPDATE login_check
-            SET login_check = false
-            WHERE member_nickname = #{memberNickname}
-            			""")
-    void updatedLoginCheck(String memberNickname);
-}
\ No newline at end of file
+            SET login_check = false,
+                login_logout_time = CURRENT_TIMESTAMP
+            WHERE login_check = true
+            """)
+    int resetLoginChecks();
+
+    // 다른 서버에 접속 중인 회원 (freshSeconds 안에 다시 쓰인 true 만)
+    @Select("""
+            <script>
+            SELECT member_nickname
+            FROM login_check
+            WHERE login_check = true
+              AND login_logout_time > NOW() - INTERVAL #{freshSeconds} SECOND
+              AND member_nickname IN
+            <foreach collection="nicknames" item="nickname" open="(" separator="," close=")">
+                #{nickname}
+            </foreach>
+            </script>
+            """)
+    List<String> selectOnlineNicknames(@Param("nicknames") List<String> nicknames, @Param("freshSeconds") long freshSeconds);
+}
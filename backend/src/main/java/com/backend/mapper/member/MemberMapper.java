@@ -14,8 +14,16 @@ public interface MemberMapper {
             VALUES (#{name}, #{username}, #{nickname}, #{password}, #{gender}, #{nationality}, #{birthDate}, #{phoneNumber}, #{postcode}, #{mainAddress}, #{detailedAddress})
             """
     )
+    @Options(useGeneratedKeys = true, keyProperty = "id")
     int signup(Member member);
 
+    // 자동완성 닉네임 색인
+    @Select("""
+            SELECT id, nickname
+            FROM member
+            """)
+    List<Member> selectNicknames();
+
     @Select("""
             SELECT *
             FROM member
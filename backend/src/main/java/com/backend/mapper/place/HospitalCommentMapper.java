@@ -2,6 +2,7 @@ package com.backend.mapper.place;
 
 import com.backend.domain.place.HospitalComment;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -23,6 +24,41 @@ public interface HospitalCommentMapper {
             """)
     List<HospitalComment> selectByHospitalId(Integer hospitalId);
 
+    // 댓글 id 기준 keyset 페이지 (idx_hospital_comment_hospital = (hospital_id, id))
+    // before 만 있으면 그 앞쪽을 id 내림차순으로 읽음 (서비스에서 뒤집음)
+    @Select("""
+            <script>
+            SELECT c.id, c.hospital_id, c.member_id, c.comment, c.inserted, m.nickname, c.rate
+            FROM hospital_comment c
+            JOIN member m ON c.member_id = m.id
+            WHERE c.hospital_id = #{hospitalId}
+            <if test="after != null">
+                AND c.id &gt; #{after}
+            </if>
+            <if test="before != null">
+                AND c.id &lt; #{before}
+            </if>
+            ORDER BY c.id
+            <if test="before != null and after == null">
+                DESC
+            </if>
+            LIMIT #{limit}
+            </script>
+            """)
+    List<HospitalComment> selectPage(@Param("hospitalId") Integer hospitalId, @Param("before") Integer before,
+                                     @Param("after") Integer after, @Param("limit") Integer limit);
+
+    // 내보내기용: 드라이버가 fetchSize 만큼씩 스트리밍
+    @Select("""
+            SELECT c.id, c.hospital_id, c.member_id, c.comment, c.inserted, m.nickname, c.rate
+            FROM hospital_comment c
+            JOIN member m ON c.member_id = m.id
+            WHERE c.hospital_id = #{hospitalId}
+            ORDER BY c.id
+            """)
+    @Options(fetchSize = 500)
+    Cursor<HospitalComment> selectCursorByHospitalId(Integer hospitalId);
+
     @Delete("""
             DELETE FROM hospital_comment
             WHERE id = #{id}
@@ -0,0 +1,156 @@
+package com.backend.ranking;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// id 별 점수를 가진 최대 힙
+// id -> 힙 위치를 같이 들고 있어서 점수 변경/삭제가 O(log n)
+// 동기화는 호출 쪽에서
+public class IndexedMaxHeap {
+    private int[] ids = new int[16];
+    private double[] scores = new double[16];
+    private int size;
+    private final Map<Integer, Integer> positions = new HashMap<>();
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return positions.containsKey(id);
+    }
+
+    // 없으면 0
+    public double score(int id) {
+        Integer pos = positions.get(id);
+        return pos == null ? 0 : scores[pos];
+    }
+
+    // 없던 id 면 delta 점수로 추가
+    public void add(int id, double delta) {
+        Integer pos = positions.get(id);
+        if (pos == null) {
+            insert(id, delta);
+            return;
+        }
+        scores[pos] += delta;
+        if (delta > 0) {
+            siftUp(pos);
+        } else {
+            siftDown(pos);
+        }
+    }
+
+    public void remove(int id) {
+        Integer pos = positions.remove(id);
+        if (pos == null) {
+            return;
+        }
+        size--;
+        if (pos == size) {
+            return;
+        }
+        // 마지막 원소를 빈 자리로 옮겨서 다시 정렬
+        int moved = ids[size];
+        move(size, pos);
+        siftUp(pos);
+        siftDown(positions.get(moved));
+    }
+
+    // 모든 점수에 같은 양수를 곱함 (순서는 그대로)
+    public void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+    }
+
+    // 점수 내림차순 상위 k 개 id
+    // 힙 안에서 후보 위치만 따라 내려가므로 O(k log k)
+    public int[] top(int k) {
+        int limit = Math.min(k, size);
+        int[] result = new int[limit];
+        if (limit == 0) {
+            return result;
+        }
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(
+                (a, b) -> higher(a, b) ? -1 : (higher(b, a) ? 1 : 0));
+        frontier.add(0);
+        for (int n = 0; n < limit; n++) {
+            int pos = frontier.poll();
+            result[n] = ids[pos];
+            int left = pos * 2 + 1;
+            if (left < size) {
+                frontier.add(left);
+            }
+            if (left + 1 < size) {
+                frontier.add(left + 1);
+            }
+        }
+        return result;
+    }
+
+    private void insert(int id, double score) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        ids[size] = id;
+        scores[size] = score;
+        positions.put(id, size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (!higher(pos, parent)) {
+                break;
+            }
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = pos * 2 + 1;
+            if (left >= size) {
+                break;
+            }
+            int child = left + 1 < size && higher(left + 1, left) ? left + 1 : left;
+            if (!higher(child, pos)) {
+                break;
+            }
+            swap(pos, child);
+            pos = child;
+        }
+    }
+
+    // 점수가 같으면 id 가 큰(최신) 쪽이 위
+    private boolean higher(int a, int b) {
+        if (scores[a] != scores[b]) {
+            return scores[a] > scores[b];
+        }
+        return ids[a] > ids[b];
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        double score = scores[a];
+        ids[a] = ids[b];
+        scores[a] = scores[b];
+        ids[b] = id;
+        scores[b] = score;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        scores[to] = scores[from];
+        positions.put(ids[to], to);
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 문자 bigram 토크나이저
+// 형태소 분석기 없이도 한글 부분 일치 검색이 가능 ("강아지" -> "강아", "아지")
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // normalize 된 문자열을 받음, 길이 1 이하면 빈 집합
+    public static Set<String> bigrams(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+}
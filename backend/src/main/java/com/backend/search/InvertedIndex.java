@@ -0,0 +1,233 @@
+package com.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+// 필드별 bigram 역색인
+// 후보는 posting list 교집합으로 찾고, 원문 contains 로 한 번 더 확인해서 LIKE '%kw%' 와 같은 결과를 냄
+public class InvertedIndex {
+    private final int fieldCount;
+    private final List<Map<String, PostingList>> postings = new ArrayList<>();
+    // docId -> normalize 된 필드 원문
+    private final Map<Integer, String[]> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+        for (int i = 0; i < fieldCount; i++) {
+            postings.add(new HashMap<>());
+        }
+    }
+
+    // 초기 빌드: 문서 id 오름차순으로 모아서 한 번에 압축
+    public static InvertedIndex build(int fieldCount, Map<Integer, String[]> docs) {
+        InvertedIndex index = new InvertedIndex(fieldCount);
+        List<Map<String, IntBuffer>> buffers = new ArrayList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            buffers.add(new HashMap<>());
+        }
+
+        for (Map.Entry<Integer, String[]> entry : new TreeMap<>(docs).entrySet()) {
+            String[] fields = normalize(entry.getValue(), fieldCount);
+            index.documents.put(entry.getKey(), fields);
+            for (int f = 0; f < fieldCount; f++) {
+                for (String token : BigramTokenizer.bigrams(fields[f])) {
+                    buffers.get(f).computeIfAbsent(token, t -> new IntBuffer()).add(entry.getKey());
+                }
+            }
+        }
+
+        for (int f = 0; f < fieldCount; f++) {
+            Map<String, PostingList> field = index.postings.get(f);
+            buffers.get(f).forEach((token, buffer) -> field.put(token, PostingList.of(buffer.values, buffer.size)));
+        }
+        return index;
+    }
+
+    public void put(int docId, String[] rawFields) {
+        String[] fields = normalize(rawFields, fieldCount);
+        lock.writeLock().lock();
+        try {
+            removeTokens(docId);
+            documents.put(docId, fields);
+            for (int f = 0; f < fieldCount; f++) {
+                Map<String, PostingList> field = postings.get(f);
+                for (String token : BigramTokenizer.bigrams(fields[f])) {
+                    field.put(token, field.getOrDefault(token, PostingList.EMPTY).with(docId));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeTokens(docId);
+            documents.remove(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 저장된 필드 원문 (없으면 null)
+    public String[] document(int docId) {
+        lock.readLock().lock();
+        try {
+            String[] fields = documents.get(docId);
+            return fields == null ? null : fields.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // fields 중 하나라도 query 를 포함하는 문서 id
+    // 점수 = sum(weights[f] * 등장 횟수), 점수 내림차순 -> id 내림차순(최신순)
+    public List<Integer> search(String query, int[] fields, int[] weights, IntPredicate filter) {
+        String q = BigramTokenizer.normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                int f = fields[i];
+                for (int docId : candidates(f, q)) {
+                    if (!filter.test(docId)) {
+                        continue;
+                    }
+                    int occurrences = countOccurrences(documents.get(docId)[f], q);
+                    if (occurrences > 0) {
+                        scores.merge(docId, weights[i] * occurrences, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Integer, Integer>comparingByKey(Comparator.reverseOrder())));
+        List<Integer> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Integer, Integer> entry : ranked) {
+            ids.add(entry.getKey());
+        }
+        return ids;
+    }
+
+    // 읽기 락 안에서 호출
+    private int[] candidates(int field, String q) {
+        Set<String> tokens = BigramTokenizer.bigrams(q);
+        if (tokens.isEmpty()) {
+            // 한 글자 검색어는 bigram 이 없으므로 원문 전체 확인
+            return documents.keySet().stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Map<String, PostingList> fieldPostings = postings.get(field);
+        List<PostingList> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            PostingList list = fieldPostings.get(token);
+            if (list == null || list.size() == 0) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        // 짧은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).toArray());
+        }
+        return result;
+    }
+
+    private void removeTokens(int docId) {
+        String[] old = documents.get(docId);
+        if (old == null) {
+            return;
+        }
+        for (int f = 0; f < fieldCount; f++) {
+            Map<String, PostingList> field = postings.get(f);
+            for (String token : BigramTokenizer.bigrams(old[f])) {
+                PostingList list = field.get(token);
+                if (list == null) {
+                    continue;
+                }
+                PostingList next = list.without(docId);
+                if (next.size() == 0) {
+                    field.remove(token);
+                } else {
+                    field.put(token, next);
+                }
+            }
+        }
+    }
+
+    private static String[] normalize(String[] rawFields, int fieldCount) {
+        String[] fields = new String[fieldCount];
+        for (int f = 0; f < fieldCount; f++) {
+            fields[f] = BigramTokenizer.normalize(f < rawFields.length ? rawFields[f] : null);
+        }
+        return fields;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int countOccurrences(String text, String q) {
+        int count = 0;
+        int from = text.indexOf(q);
+        while (from >= 0) {
+            count++;
+            from = text.indexOf(q, from + 1);
+        }
+        return count;
+    }
+
+    private static class IntBuffer {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
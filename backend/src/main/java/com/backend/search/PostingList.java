@@ -0,0 +1,119 @@
+package com.backend.search;
+
+import java.util.Arrays;
+
+// 정렬된 문서 id 목록을 delta + varint 로 압축해서 보관
+// 변경은 항상 새 인스턴스를 돌려줌
+// append 는 뒤쪽 여유 공간을 공유하므로 항상 가장 최신 인스턴스에만 호출해야 함 (InvertedIndex 쓰기 락 안)
+public final class PostingList {
+    public static final PostingList EMPTY = new PostingList(new byte[0], 0, 0, -1);
+
+    private final byte[] data;
+    private final int length;
+    private final int size;
+    private final int last;
+
+    private PostingList(byte[] data, int length, int size, int last) {
+        this.data = data;
+        this.length = length;
+        this.size = size;
+        this.last = last;
+    }
+
+    // ids 는 오름차순, 중복 없음
+    public static PostingList of(int[] ids, int count) {
+        byte[] buf = new byte[Math.max(count * 2, 4)];
+        int pos = 0;
+        int prev = 0;
+        for (int i = 0; i < count; i++) {
+            if (buf.length - pos < 5) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+            pos = writeVarint(buf, pos, ids[i] - prev);
+            prev = ids[i];
+        }
+        return new PostingList(buf, pos, count, count == 0 ? -1 : ids[count - 1]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int[] toArray() {
+        int[] ids = new int[size];
+        int pos = 0;
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            ids[i] = value;
+        }
+        return ids;
+    }
+
+    public boolean contains(int id) {
+        return id <= last && Arrays.binarySearch(toArray(), id) >= 0;
+    }
+
+    public PostingList with(int id) {
+        if (id > last) {
+            // 가장 흔한 경우 (새 게시물): 뒤에 붙이기만 함
+            byte[] buf = data;
+            if (buf.length - length < 5) {
+                buf = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            int end = writeVarint(buf, length, size == 0 ? id : id - last);
+            return new PostingList(buf, end, size + 1, id);
+        }
+        int[] ids = toArray();
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) {
+            return this;
+        }
+        int insert = -at - 1;
+        int[] next = new int[size + 1];
+        System.arraycopy(ids, 0, next, 0, insert);
+        next[insert] = id;
+        System.arraycopy(ids, insert, next, insert + 1, size - insert);
+        return of(next, next.length);
+    }
+
+    public PostingList without(int id) {
+        if (id > last) {
+            return this;
+        }
+        int[] ids = toArray();
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        int[] next = new int[size - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, size - at - 1);
+        return of(next, next.length);
+    }
+
+    // 메모리 사용량 추정 (통계용)
+    public int byteSize() {
+        return data.length;
+    }
+
+    private static int writeVarint(byte[] buf, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+}
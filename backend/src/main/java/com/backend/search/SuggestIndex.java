@@ -0,0 +1,179 @@
+package com.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 접두어 자동완성 색인
+// 정규화한 문자열 순으로 정렬된 skip list 에서 접두어 범위만 훑고 가중치 상위 N 개를 고름
+// 한글은 자모로 풀어서 저장하므로 입력 중인 글자("안ㄴ")도 "안녕" 에 걸림
+// 같은 문자열은 한 항목으로 합치고 (출처 수, 가중치 합) 을 유지, 출처가 0 이 되면 제거
+// 쓰기는 synchronized, 읽기는 잠금 없음
+public class SuggestIndex {
+    // 1~2 자모 접두어는 범위가 넓어서 결과를 캐시 (쓰기가 있으면 버전이 바뀌어 다시 계산)
+    private static final int SHORT_PREFIX = 2;
+    private static final int CACHED_TOP = 20;
+    // 아무 문자나 들어올 수 있으므로 캐시 키 수 제한 (넘으면 비움)
+    private static final int MAX_CACHED_PREFIXES = 4096;
+    // 긴 접두어는 범위가 좁으므로 훑는 항목 수만 제한
+    private static final int MAX_SCAN = 2000;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ",
+            "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    private final long maxBytes;
+    // 정규화 문자열 + '\0' + kind -> 항목
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, Cached> shortPrefixCache = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private long bytes;
+
+    public SuggestIndex(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    // 새 문자열인데 메모리 한도를 넘으면 false (기존 항목 가중치는 항상 반영)
+    public synchronized boolean add(int kind, String text, long weight) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return true;
+        }
+        String key = normalized + '\0' + kind;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            long size = estimate(key, text);
+            if (bytes + size > maxBytes) {
+                return false;
+            }
+            bytes += size;
+            entries.put(key, new Entry(text, kind, 1, weight));
+        } else {
+            entries.put(key, new Entry(entry.text, kind, entry.sources + 1, entry.weight + weight));
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    // add 할 때와 같은 (text, weight) 로 호출
+    public synchronized void subtract(int kind, String text, long weight) {
+        String normalized = normalize(text);
+        String key = normalized + '\0' + kind;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (entry.sources <= 1) {
+            entries.remove(key);
+            bytes -= estimate(key, entry.text);
+        } else {
+            entries.put(key, new Entry(entry.text, kind, entry.sources - 1, entry.weight - weight));
+        }
+        version.incrementAndGet();
+    }
+
+    // kindMask: 1 << kind 의 합
+    public List<Suggestion> top(String prefix, int kindMask, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() <= SHORT_PREFIX && limit <= CACHED_TOP) {
+            String cacheKey = normalized + '\0' + kindMask;
+            long current = version.get();
+            Cached cached = shortPrefixCache.get(cacheKey);
+            if (cached == null || cached.version != current) {
+                cached = new Cached(current, scan(normalized, kindMask, CACHED_TOP, Integer.MAX_VALUE));
+                if (shortPrefixCache.size() >= MAX_CACHED_PREFIXES) {
+                    shortPrefixCache.clear();
+                }
+                shortPrefixCache.put(cacheKey, cached);
+            }
+            return cached.suggestions.subList(0, Math.min(limit, cached.suggestions.size()));
+        }
+        return scan(normalized, kindMask, limit, MAX_SCAN);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    private List<Suggestion> scan(String prefix, int kindMask, int limit, int maxScan) {
+        ConcurrentNavigableMap<String, Entry> range = entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, Comparator.comparingLong(entry -> entry.weight));
+        int scanned = 0;
+        for (Entry entry : range.values()) {
+            if (++scanned > maxScan) {
+                break;
+            }
+            if ((kindMask & (1 << entry.kind)) == 0) {
+                continue;
+            }
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Suggestion> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Entry entry = best.poll();
+            result.add(new Suggestion(entry.text, entry.kind, entry.weight));
+        }
+        return List.copyOf(result.reversed());
+    }
+
+    // 소문자, 공백 하나로, 한글 음절은 자모로 (겹모음/겹받침도 나눔)
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        boolean space = false;
+        for (char c : text.strip().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                result.append(' ');
+                space = false;
+            }
+            if (c >= '가' && c <= '힣') {
+                int index = c - '가';
+                result.append(CHO.charAt(index / 588));
+                result.append(JUNG[index % 588 / 28]);
+                result.append(JONG[index % 28]);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    // 문자열 2벌(UTF-16) + 항목 / 노드 오버헤드
+    private static long estimate(String key, String text) {
+        return 2L * (key.length() + text.length()) + 120;
+    }
+
+    private record Entry(String text, int kind, int sources, long weight) {
+    }
+
+    private record Cached(long version, List<Suggestion> suggestions) {
+    }
+
+    public record Suggestion(String text, int kind, long weight) {
+    }
+}
@@ -1,6 +1,5 @@
 package com.backend.security;
 
-import com.backend.mapper.member.LoginCheckMapper;
 import com.backend.mapper.member.RefreshMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -18,12 +17,10 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
     private final RefreshMapper refreshMapper;
-    private final LoginCheckMapper loginCheckMapper;
 
-    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshMapper refreshMapper, LoginCheckMapper loginCheckMapper) {
+    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshMapper refreshMapper) {
         this.jwtUtil = jwtUtil;
         this.refreshMapper = refreshMapper;
-        this.loginCheckMapper = loginCheckMapper;
     }
 
     @Override
@@ -94,8 +91,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
         // Refresh 토큰 DB에서 제거
         int result = refreshMapper.deleteByRefresh(refresh);
         System.out.println("result = " + result);
-        // LoginCheck
-        loginCheckMapper.updatedLoginCheck(request.getParameter("nickname"));
+        // 접속 상태는 클라이언트가 WebSocket 을 끊으면 PresenceService 가 내림
 
         // Refresh 토큰 Cookie 값 0으로 설정하고 제거
         Cookie cookie = new Cookie("refresh", null);
@@ -0,0 +1,53 @@
+package com.backend.security;
+
+import com.backend.domain.member.Member;
+import com.backend.mapper.member.MemberMapper;
+import com.backend.oauth2.CustomOAuth2User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 인증된 요청의 회원 id (JWTFilter 가 넣은 토큰에는 username 만 있음)
+// 요청 파라미터의 memberId 는 누구나 바꿔 보낼 수 있으므로 본인 확인이 필요한 곳은 이 값을 씀
+// username -> id 는 바뀌지 않으므로 캐시 (탈퇴한 회원은 expire 후 사라짐)
+@Component
+public class MemberIdResolver {
+    private final MemberMapper memberMapper;
+    private final Cache<String, Integer> ids = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public MemberIdResolver(MemberMapper memberMapper) {
+        this.memberMapper = memberMapper;
+    }
+
+    // 로그인하지 않았거나 회원을 찾을 수 없으면 null
+    public Integer resolve(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof CustomOAuth2User user) {
+            return resolve(user.getUsername());
+        }
+        if (principal instanceof CustomUserDetails user) {
+            return resolve(user.getUsername());
+        }
+        return null;
+    }
+
+    public Integer resolve(String username) {
+        if (username == null) {
+            return null;
+        }
+        // 없는 회원은 캐시하지 않음 (null 을 돌려주면 Caffeine 이 저장하지 않음)
+        return ids.get(username, key -> {
+            Member member = memberMapper.selectByUsername(key);
+            return member == null ? null : member.getId();
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.backend.security;
+
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+// STOMP 연결의 회원 확인 (WebSocket 핸드셰이크에는 JWTFilter 의 access 헤더가 없음)
+// CONNECT 의 access 헤더(JWT)로 회원을 찾아 세션 Principal 로 둠 (getName() = 회원 id)
+// 토큰이 없거나 만료 / 위조면 비회원 연결 (채팅방 구독 등은 그대로 됨, 채팅 보내기는 안 됨)
+// /topic/presence/{id} 는 그 회원의 연결만 구독할 수 있음
+// 클라이언트는 /topic/** 에 직접 SEND 할 수 없음 (브로커가 그대로 방송하므로 ChatController 의 확인을 건너뜀)
+// /app/chat/** 는 회원 연결만 SEND (보낸 사람 / 방 확인은 ChatController)
+// /topic/cluster.* 는 서버끼리 쓰는 목적지 (BoardClusterEvents) 라 클라이언트는 구독도 못 함
+// 거절한 프레임은 버림 (ERROR 로 끊으면 클라이언트가 같은 헤더로 재연결을 반복)
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(StompAuthChannelInterceptor.class);
+    public static final String ACCESS_HEADER = "access";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String PRESENCE_PREFIX = "/topic/presence/";
+    private static final String CHAT_PREFIX = "/app/chat/";
+    private static final String CLUSTER_PREFIX = "/topic/cluster.";
+
+    private final JWTUtil jwtUtil;
+    private final MemberIdResolver memberIdResolver;
+
+    public StompAuthChannelInterceptor(JWTUtil jwtUtil, MemberIdResolver memberIdResolver) {
+        this.jwtUtil = jwtUtil;
+        this.memberIdResolver = memberIdResolver;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> {
+                Integer memberId = memberId(accessor.getFirstNativeHeader(ACCESS_HEADER));
+                if (memberId != null) {
+                    accessor.setUser(new MemberPrincipal(memberId));
+                }
+            }
+            case SUBSCRIBE -> {
+                String destination = accessor.getDestination();
+                Principal user = accessor.getUser();
+                if (isCluster(destination)) {
+                    return null;
+                }
+                if (isPresence(destination) && (user == null || !destination.equals(PRESENCE_PREFIX + user.getName()))) {
+                    logger.warn("presence subscription denied: {} by {}", destination, user == null ? null : user.getName());
+                    return null;
+                }
+            }
+            case SEND -> {
+                String destination = accessor.getDestination();
+                if (destination != null && destination.startsWith(TOPIC_PREFIX)) {
+                    logger.warn("client message to broker destination dropped: {}", destination);
+                    return null;
+                }
+                if (destination != null && destination.startsWith(CHAT_PREFIX) && !(accessor.getUser() instanceof MemberPrincipal)) {
+                    logger.warn("anonymous chat message dropped: {}", destination);
+                    return null;
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    // 확인할 수 없는 토큰이면 null
+    private Integer memberId(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            if (jwtUtil.isExpired(token) || !"access".equals(jwtUtil.getCategory(token))) {
+                return null;
+            }
+            return memberIdResolver.resolve(jwtUtil.getUsername(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료(ExpiredJwtException) / 서명 불일치 / 형식 오류
+            return null;
+        }
+    }
+
+    private static boolean isPresence(String destination) {
+        return destination != null && destination.startsWith(PRESENCE_PREFIX);
+    }
+
+    private static boolean isCluster(String destination) {
+        return destination != null && destination.startsWith(CLUSTER_PREFIX);
+    }
+
+    public record MemberPrincipal(Integer memberId) implements Principal {
+        @Override
+        public String getName() {
+            return String.valueOf(memberId);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 색인 / 캐시 / 버전 갱신을 트랜잭션이 커밋된 뒤로 미룸 (롤백되면 실행하지 않음)
+// 커밋 전에 반영하면 롤백된 쓰기가 남거나, 그 사이 조회가 옛 행을 다시 캐시에 넣음
+// 트랜잭션 밖이면 바로 실행
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
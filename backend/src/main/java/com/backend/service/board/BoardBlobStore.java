@@ -0,0 +1,162 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardBlobMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 첨부파일 본문은 내용 해시 키(prj3/blob/{sha256})에 한 번만 저장하고 board_blob.ref_count 로 공유
+// 게시물/파일 삭제는 참조 수만 줄이고, 참조가 없어진 본문은 collect 가 모아서 S3 에서 지움
+// hash 가 없는 board_file 은 예전 방식 키(prj3/board/{id}/{name})
+@Component
+public class BoardBlobStore {
+    private static final Logger logger = LoggerFactory.getLogger(BoardBlobStore.class);
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int S3_DELETE_BATCH = 1000;
+
+    private final BoardBlobMapper mapper;
+    private final S3Client s3Client;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucketName;
+    private final int graceSeconds;
+
+    public BoardBlobStore(BoardBlobMapper mapper,
+                          S3Client s3Client,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${aws.s3.bucket.name}") String bucketName,
+                          @Value("${board.blob.grace-seconds:3600}") int graceSeconds) {
+        this.mapper = mapper;
+        this.s3Client = s3Client;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketName = bucketName;
+        this.graceSeconds = graceSeconds;
+    }
+
+    static String key(String hash) {
+        return STR."prj3/blob/\{hash}";
+    }
+
+    static String derivativeKey(String hash, int width) {
+        return STR."prj3/blob/w\{width}/\{hash}";
+    }
+
+    // hash 가 없는 파일의 원본과 사본 키
+    static List<String> legacyKeys(Integer boardId, String fileName) {
+        List<String> keys = new ArrayList<>(BoardImageProcessor.WIDTHS.length + 1);
+        keys.add(STR."prj3/board/\{boardId}/\{fileName}");
+        for (int width : BoardImageProcessor.WIDTHS) {
+            keys.add(STR."prj3/board/\{boardId}/w\{width}/\{fileName}");
+        }
+        return keys;
+    }
+
+    // 원하는 폭 이상인 사본 중 가장 작은 것, 없으면 원본
+    // widths: board_blob.widths ("320,640")
+    static String url(String srcPrefix, Integer boardId, String fileName, String hash, String widths, int wanted) {
+        if (hash == null) {
+            return srcPrefix + "board/" + boardId + "/" + fileName;
+        }
+        if (widths != null && !widths.isEmpty()) {
+            for (String width : widths.split(",")) {
+                if (Integer.parseInt(width) >= wanted) {
+                    return srcPrefix + "blob/w" + width + "/" + hash;
+                }
+            }
+        }
+        return srcPrefix + "blob/" + hash;
+    }
+
+    // 원본 크기 (상세 화면)
+    static String url(String srcPrefix, Integer boardId, String fileName, String hash) {
+        return url(srcPrefix, boardId, fileName, hash, null, 0);
+    }
+
+    // 같은 해시가 여러 번이면 그만큼 줄임 (null 은 예전 방식 파일이라 무시)
+    public void release(Collection<String> hashes) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String hash : hashes) {
+            if (hash != null) {
+                counts.merge(hash, 1, Integer::sum);
+            }
+        }
+        if (!counts.isEmpty()) {
+            mapper.release(counts);
+        }
+    }
+
+    public void releaseByBoardIds(List<Integer> boardIds) {
+        mapper.releaseByBoardIds(boardIds);
+    }
+
+    // 행이 없으면 (사본을 만드는 동안 collect 가 수거함) false
+    public boolean updateWidths(String hash, String widths) {
+        return mapper.updateWidths(hash, widths) > 0;
+    }
+
+    // 참조가 없는 본문과 사본 삭제
+    // 행을 잠근 채로 S3 에서 지우므로 그동안 같은 해시를 올리는 요청은 기다렸다가 새 행으로 다시 PUT
+    @Scheduled(fixedDelayString = "${board.blob.collect-millis:600000}", initialDelayString = "${board.blob.collect-millis:600000}")
+    public void collect() {
+        int collected;
+        do {
+            collected = transactionTemplate.execute(status -> {
+                List<String> hashes = mapper.selectUnreferencedForUpdate(graceSeconds, S3_DELETE_BATCH / (BoardImageProcessor.WIDTHS.length + 1));
+                if (hashes.isEmpty()) {
+                    return 0;
+                }
+                List<String> keys = new ArrayList<>();
+                for (String hash : hashes) {
+                    keys.add(key(hash));
+                    for (int width : BoardImageProcessor.WIDTHS) {
+                        keys.add(derivativeKey(hash, width));
+                    }
+                }
+                deleteObjects(keys);
+                return mapper.deleteByHashes(hashes);
+            });
+            if (collected > 0) {
+                logger.info("board blobs collected: {}", collected);
+            }
+        } while (collected > 0);
+    }
+
+    @Scheduled(cron = "${board.blob.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int fixed = mapper.reconcile();
+        if (fixed > 0) {
+            logger.warn("board_blob ref_count reconciled: {} rows", fixed);
+        }
+    }
+
+    // 1000개씩 DeleteObjects (없는 키는 성공으로 처리됨)
+    public void deleteObjects(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += S3_DELETE_BATCH) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + S3_DELETE_BATCH, keys.size())).stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            for (S3Error error : response.errors()) {
+                logger.warn("s3 delete failed: {} {}", error.key(), error.message());
+            }
+        }
+    }
+}
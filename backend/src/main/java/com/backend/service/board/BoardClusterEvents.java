@@ -0,0 +1,269 @@
+package com.backend.service.board;
+
+import com.backend.service.AfterCommit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// app.cluster.enabled (서버 여러 대) 면 게시물 / 회원 변경을 STOMP 브로커로 다른 서버에 알림
+// 보낸 서버는 자기 캐시 / 색인을 이미 갱신했으므로, 받은 서버만 자기 메모리 상태를 갱신 (DB 는 다시 쓰지 않음)
+// 중계(chat.broker.mode=relay) 의 system 연결로 보내고 받음 -> 클라이언트는 구독할 수 없음 (StompAuthChannelInterceptor)
+// 이벤트는 커밋된 뒤에 보내고, 받은 쪽은 한 스레드에서 순서대로 반영 (브로커 IO 스레드에서 DB 를 읽지 않도록)
+// 브로커 재연결 사이에 놓친 이벤트 대비:
+//   상세 캐시는 cache-ttl-seconds 뒤 만료, 썸네일 / 게시물 수는 같은 주기로 비움, ETag 도 같은 주기로 바뀜 (BoardVersions)
+//   검색 색인은 index-rebuild-minutes 마다 다시 빌드, 검색 결과 캐시는 원래 TTL, 자동완성은 원래 rebuild 주기
+// 조회수 덧씌우기(BoardViewCounter) 는 서버마다 자기 대기분만 더하므로 서버 간 차이는 반영 주기 하나 이내
+@Component
+public class BoardClusterEvents {
+    private static final Logger logger = LoggerFactory.getLogger(BoardClusterEvents.class);
+    static final String DESTINATION = "/topic/cluster.board";
+
+    private final BoardDetailCache detailCache;
+    private final BoardThumbnailResolver thumbnailResolver;
+    private final BoardVersions versions;
+    private final BoardSearchIndex searchIndex;
+    private final BoardSearchCache searchCache;
+    private final BoardSuggestService suggestService;
+    private final BoardCountService countService;
+    private final BoardViewCounter viewCounter;
+    private final BoardTrendingService trendingService;
+    private final BoardWidgetService widgetService;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectProvider<AbstractBrokerMessageHandler> brokers;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    // 자기가 보낸 이벤트를 구분
+    private final String node = UUID.randomUUID().toString();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-cluster-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BoardClusterEvents(BoardDetailCache detailCache,
+                              BoardThumbnailResolver thumbnailResolver,
+                              BoardVersions versions,
+                              BoardSearchIndex searchIndex,
+                              BoardSearchCache searchCache,
+                              BoardSuggestService suggestService,
+                              BoardCountService countService,
+                              BoardViewCounter viewCounter,
+                              BoardTrendingService trendingService,
+                              BoardWidgetService widgetService,
+                              SimpMessageSendingOperations messagingTemplate,
+                              ObjectProvider<AbstractBrokerMessageHandler> brokers,
+                              ObjectMapper objectMapper,
+                              @Value("${app.cluster.enabled:false}") boolean enabled,
+                              @Value("${chat.broker.mode:simple}") String brokerMode) {
+        if (enabled && !brokerMode.equals("relay")) {
+            throw new IllegalStateException("app.cluster.enabled needs chat.broker.mode=relay (board changes are shared through the broker)");
+        }
+        this.detailCache = detailCache;
+        this.thumbnailResolver = thumbnailResolver;
+        this.versions = versions;
+        this.searchIndex = searchIndex;
+        this.searchCache = searchCache;
+        this.suggestService = suggestService;
+        this.countService = countService;
+        this.viewCounter = viewCounter;
+        this.trendingService = trendingService;
+        this.widgetService = widgetService;
+        this.messagingTemplate = messagingTemplate;
+        this.brokers = brokers;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    // 중계가 시작되기 전 (system 연결이 맺어질 때 구독)
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        StompBrokerRelayMessageHandler relay = brokers.stream()
+                .filter(StompBrokerRelayMessageHandler.class::isInstance)
+                .map(StompBrokerRelayMessageHandler.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("app.cluster.enabled needs the STOMP broker relay"));
+        Map<String, MessageHandler> subscriptions = new HashMap<>();
+        if (relay.getSystemSubscriptions() != null) {
+            subscriptions.putAll(relay.getSystemSubscriptions());
+        }
+        subscriptions.put(DESTINATION, this::received);
+        relay.setSystemSubscriptions(subscriptions);
+    }
+
+    // 게시물 추가 / 수정
+    public void boardsSaved(List<Integer> boardIds) {
+        publish(new Event(node, Kind.BOARDS_SAVED, boardIds, null, null));
+    }
+
+    public void boardsRemoved(List<Integer> boardIds) {
+        publish(new Event(node, Kind.BOARDS_REMOVED, boardIds, null, null));
+    }
+
+    // 댓글 / 좋아요 (상세만 바뀜)
+    public void boardsChanged(List<Integer> boardIds) {
+        publish(new Event(node, Kind.BOARDS_CHANGED, boardIds, null, null));
+    }
+
+    // 이미지 사본이 만들어짐 (목록 썸네일만 바뀜)
+    public void thumbnailsChanged(List<Integer> boardIds) {
+        publish(new Event(node, Kind.THUMBNAILS_CHANGED, boardIds, null, null));
+    }
+
+    public void memberAdded(Integer memberId, String nickname) {
+        publish(new Event(node, Kind.MEMBER_ADDED, List.of(), memberId, nickname));
+    }
+
+    public void memberRenamed(Integer memberId, String nickname) {
+        publish(new Event(node, Kind.MEMBER_RENAMED, List.of(), memberId, nickname));
+    }
+
+    public void memberRemoved(Integer memberId) {
+        publish(new Event(node, Kind.MEMBER_REMOVED, List.of(), memberId, null));
+    }
+
+    // 놓친 이벤트로 남은 썸네일 / 게시물 수를 주기적으로 다시 읽게 함
+    @Scheduled(fixedDelayString = "${app.cluster.cache-ttl-seconds:30}", initialDelayString = "${app.cluster.cache-ttl-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void expire() {
+        if (!enabled) {
+            return;
+        }
+        thumbnailResolver.clear();
+        countService.invalidate();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.index-rebuild-minutes:10}", initialDelayString = "${app.cluster.index-rebuild-minutes:10}", timeUnit = TimeUnit.MINUTES)
+    public void rebuildIndex() {
+        if (!enabled) {
+            return;
+        }
+        searchIndex.rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void publish(Event event) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                messagingTemplate.convertAndSend(DESTINATION, event);
+            } catch (MessagingException e) {
+                // 다른 서버는 만료 주기 안에 따라옴
+                logger.warn("board cluster event not sent: {} {}", event.kind(), event.boardIds(), e);
+            }
+        });
+    }
+
+    private void received(Message<?> message) {
+        Event event;
+        try {
+            event = objectMapper.readValue((byte[]) message.getPayload(), Event.class);
+        } catch (IOException | ClassCastException e) {
+            logger.warn("unreadable board cluster event", e);
+            return;
+        }
+        if (node.equals(event.node())) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                apply(event);
+            } catch (RuntimeException e) {
+                logger.warn("board cluster event failed: {} {}", event.kind(), event.boardIds(), e);
+            }
+        });
+    }
+
+    // 다른 서버의 변경을 이 서버 메모리에 반영 (트랜잭션 밖이라 바로 실행됨)
+    void apply(Event event) {
+        List<Integer> boardIds = event.boardIds() == null ? List.of() : event.boardIds();
+        switch (event.kind()) {
+            case BOARDS_SAVED -> {
+                detailCache.invalidateAll(boardIds);
+                versions.boardsChanged(boardIds);
+                for (Integer boardId : boardIds) {
+                    thumbnailResolver.evict(boardId);
+                    searchIndex.refresh(boardId);
+                    suggestService.boardSaved(boardId);
+                }
+                searchCache.invalidateAll();
+                countService.invalidate();
+                widgetService.requestRefresh();
+            }
+            case BOARDS_REMOVED -> {
+                detailCache.invalidateAll(boardIds);
+                versions.boardsChanged(boardIds);
+                suggestService.boardsRemoved(boardIds);
+                for (Integer boardId : boardIds) {
+                    thumbnailResolver.evict(boardId);
+                    searchIndex.remove(boardId);
+                    viewCounter.discard(boardId);
+                    trendingService.removed(boardId);
+                }
+                searchCache.invalidateAll();
+                countService.invalidate();
+                widgetService.requestRefresh();
+            }
+            case BOARDS_CHANGED -> {
+                detailCache.invalidateAll(boardIds);
+                versions.boardsChanged(boardIds);
+                widgetService.requestRefresh();
+            }
+            case THUMBNAILS_CHANGED -> {
+                boardIds.forEach(thumbnailResolver::evict);
+                versions.listChanged();
+                widgetService.requestRefresh();
+            }
+            case MEMBER_ADDED -> suggestService.memberSaved(event.memberId(), event.nickname());
+            case MEMBER_RENAMED -> {
+                searchIndex.renameWriter(event.memberId(), event.nickname());
+                suggestService.memberSaved(event.memberId(), event.nickname());
+                searchCache.invalidateAll();
+                detailCache.invalidateAll();
+                versions.allChanged();
+            }
+            case MEMBER_REMOVED -> {
+                suggestService.memberRemoved(event.memberId());
+                detailCache.invalidateAll();
+                versions.allChanged();
+            }
+        }
+    }
+
+    enum Kind {
+        BOARDS_SAVED, BOARDS_REMOVED, BOARDS_CHANGED, THUMBNAILS_CHANGED, MEMBER_ADDED, MEMBER_RENAMED, MEMBER_REMOVED
+    }
+
+    // node: 보낸 서버, boardIds / memberId / nickname 은 kind 에 따라 씀
+    record Event(String node, Kind kind, List<Integer> boardIds, Integer memberId, String nickname) {
+    }
+}
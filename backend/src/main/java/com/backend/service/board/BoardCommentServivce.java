@@ -1,12 +1,19 @@
 package com.backend.service.board;
 
 import com.backend.domain.board.BoardComment;
+import com.backend.export.CursorJsonWriter;
 import com.backend.mapper.board.BoardCommentMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 
 @Service
@@ -15,6 +22,13 @@ import java.util.List;
 public class BoardCommentServivce {
 
     final BoardCommentMapper mapper;
+    final BoardStatsService statsService;
+    final BoardWidgetService widgetService;
+    final BoardTrendingService trendingService;
+    final BoardDetailCache detailCache;
+    final BoardVersions versions;
+    final BoardClusterEvents clusterEvents;
+    final CursorJsonWriter cursorJsonWriter;
 
     public boolean validate(BoardComment comment) {
         if (comment == null) {
@@ -33,18 +47,58 @@ public class BoardCommentServivce {
 
     public void add(BoardComment comment) {
         mapper.insert(comment);
+        statsService.commentAdded(comment.getBoardId());
+        trendingService.commented(comment.getBoardId());
+        detailCache.invalidate(comment.getBoardId());
+        versions.boardChanged(comment.getBoardId());
+        widgetService.requestRefresh();
+        clusterEvents.boardsChanged(List.of(comment.getBoardId()));
     }
 
     public List<BoardComment> list(Integer boardId) {
         return mapper.selectAllByBoardId(boardId);
     }
 
+    // 댓글 id 기준 페이지 (before: 이 id 보다 앞, after: 이 id 보다 뒤, 둘 다 없으면 처음부터)
+    // 결과는 항상 id 오름차순, hasMore 는 읽은 방향으로 더 있는지
+    public Map<String, Object> page(Integer boardId, Integer before, Integer after, Integer limit) {
+        List<BoardComment> comments = new ArrayList<>(mapper.selectPage(boardId, before, after, limit + 1));
+        boolean hasMore = comments.size() > limit;
+        if (hasMore) {
+            comments.remove(comments.size() - 1);
+        }
+        if (before != null && after == null) {
+            Collections.reverse(comments);
+        }
+        return Map.of("comments", comments, "hasMore", hasMore);
+    }
+
+    // 관리자 내보내기: 댓글 수와 상관없이 한 행씩 써서 메모리 사용량 일정
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void export(Integer boardId, OutputStream out) throws IOException {
+        cursorJsonWriter.write(out, () -> mapper.selectCursorByBoardId(boardId));
+    }
+
     public void remove(BoardComment comment) {
+        invalidateDetail(comment.getId());
+        statsService.commentRemoving(comment.getId());
         mapper.deleteById(comment.getId());
+        widgetService.requestRefresh();
     }
 
     public void update(BoardComment boardComment) {
         System.out.println("서비스의 boardComment = " + boardComment);
         mapper.update(boardComment);
+        invalidateDetail(boardComment.getId());
+    }
+
+    // 요청에 boardId 가 없을 수 있어서 댓글 id 로 찾음
+    private void invalidateDetail(Integer commentId) {
+        Integer boardId = mapper.selectBoardIdById(commentId);
+        if (boardId != null) {
+            detailCache.invalidate(boardId);
+            versions.boardChanged(boardId);
+            clusterEvents.boardsChanged(List.of(boardId));
+        }
     }
 }
@@ -0,0 +1,180 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardMapper;
+import com.backend.service.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 목록 페이지 계산용 게시물 수 캐시
+// 검색어 없는 목록: 게시판 종류별 정확한 수를 메모리에서 증감
+// 검색어 있는 목록: (boardType, searchType, keyword) 별로 짧은 TTL
+@Service
+public class BoardCountService {
+    // board_type 이 NULL 인 게시물 키 (ConcurrentHashMap 은 null 키 불가)
+    private static final String NO_TYPE = "";
+    private static final int MAX_SEARCH_ENTRIES = 1_000;
+
+    private final BoardMapper mapper;
+    private final long searchTtlMillis;
+
+    // null 이면 아직 로드 전
+    private volatile Map<String, AtomicInteger> countsByType;
+    private volatile AtomicInteger reportCount;
+    private final Map<String, CachedCount> searchCounts = new ConcurrentHashMap<>();
+
+    private final Counter exactHits;
+    private final Counter exactMisses;
+    private final Counter searchHits;
+    private final Counter searchMisses;
+
+    public BoardCountService(BoardMapper mapper,
+                             MeterRegistry registry,
+                             @Value("${board.count.search-ttl-seconds:30}") long searchTtlSeconds) {
+        this.mapper = mapper;
+        this.searchTtlMillis = searchTtlSeconds * 1000;
+        this.exactHits = registry.counter("board.count.cache", "kind", "exact", "result", "hit");
+        this.exactMisses = registry.counter("board.count.cache", "kind", "exact", "result", "miss");
+        this.searchHits = registry.counter("board.count.cache", "kind", "search", "result", "hit");
+        this.searchMisses = registry.counter("board.count.cache", "kind", "search", "result", "miss");
+        registry.gauge("board.count.cache.search.size", searchCounts, Map::size);
+    }
+
+    public int count(String boardType, String searchType, String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            Map<String, AtomicInteger> counts = countsByType;
+            if (counts == null) {
+                exactMisses.increment();
+                counts = loadCounts();
+            } else {
+                exactHits.increment();
+            }
+            if (boardType.equals("전체")) {
+                return counts.values().stream().mapToInt(AtomicInteger::get).sum();
+            }
+            AtomicInteger count = counts.get(boardType);
+            return count == null ? 0 : count.get();
+        }
+
+        String key = "board|" + boardType + "|" + searchType + "|" + keyword;
+        return cachedSearch(key, () -> mapper.selectByBoardType(boardType, searchType, keyword));
+    }
+
+    // 신고 목록 (board_report 행 수)
+    public int reportCount(String boardType, String searchType, String keyword) {
+        if (boardType.equals("전체") && searchType.equals("전체") && keyword.isEmpty()) {
+            AtomicInteger count = reportCount;
+            if (count == null) {
+                exactMisses.increment();
+                count = new AtomicInteger(mapper.selectAllCountWithReportBoard());
+                reportCount = count;
+            } else {
+                exactHits.increment();
+            }
+            return count.get();
+        }
+
+        String key = "report|" + boardType + "|" + searchType + "|" + keyword;
+        return cachedSearch(key, () -> mapper.selectByBoardTypeWithReportBoard(boardType, searchType, keyword));
+    }
+
+    // 증감은 쓰기가 커밋된 뒤에 (롤백된 쓰기로 수가 어긋나지 않도록)
+    public void boardAdded(String boardType) {
+        AfterCommit.run(() -> {
+            adjust(boardType, 1);
+            searchCounts.clear();
+        });
+    }
+
+    public void boardDeleted(String boardType) {
+        AfterCommit.run(() -> {
+            adjust(boardType, -1);
+            searchCounts.clear();
+            // 신고 행은 board 삭제 시 같이 지워지므로 다시 로드
+            reportCount = null;
+        });
+    }
+
+    // 제목/본문이 바뀌면 검색 결과 수가 달라질 수 있음
+    public void boardEdited() {
+        AfterCommit.run(searchCounts::clear);
+    }
+
+    public void reportAdded() {
+        AfterCommit.run(() -> {
+            AtomicInteger count = reportCount;
+            if (count != null) {
+                count.incrementAndGet();
+            }
+            searchCounts.keySet().removeIf(key -> key.startsWith("report|"));
+        });
+    }
+
+    // 다른 서버에서 게시물이 추가 / 삭제됨 (BoardClusterEvents): 다음 조회 때 다시 읽음
+    public void invalidate() {
+        countsByType = null;
+        reportCount = null;
+        searchCounts.clear();
+    }
+
+    // 로드 이후 빠졌을 수 있는 증감을 주기적으로 바로잡음
+    @Scheduled(fixedDelayString = "${board.count.refresh-millis:600000}", initialDelayString = "${board.count.refresh-millis:600000}")
+    public void refresh() {
+        loadCounts();
+        reportCount = null;
+    }
+
+    private synchronized Map<String, AtomicInteger> loadCounts() {
+        Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        for (Map<String, Object> row : mapper.selectCountGroupByBoardType()) {
+            String boardType = (String) row.get("boardType");
+            counts.put(boardType == null ? NO_TYPE : boardType, new AtomicInteger(((Number) row.get("count")).intValue()));
+        }
+        countsByType = counts;
+        return counts;
+    }
+
+    private void adjust(String boardType, int delta) {
+        Map<String, AtomicInteger> counts = countsByType;
+        if (counts == null) {
+            // 아직 로드 전이면 로드할 때 반영됨
+            return;
+        }
+        counts.computeIfAbsent(boardType == null ? NO_TYPE : boardType, type -> new AtomicInteger())
+                .addAndGet(delta);
+    }
+
+    private int cachedSearch(String key, Supplier<Integer> loader) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = searchCounts.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            searchHits.increment();
+            return cached.count;
+        }
+
+        searchMisses.increment();
+        int count = loader.get();
+        if (searchCounts.size() >= MAX_SEARCH_ENTRIES) {
+            searchCounts.clear();
+        }
+        searchCounts.put(key, new CachedCount(count, now + searchTtlMillis));
+        return count;
+    }
+
+    private static class CachedCount {
+        final int count;
+        final long expiresAt;
+
+        CachedCount(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.service.board;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 게시물 목록 커서 (방향 + 기준 게시물 id)
+// 클라이언트에는 base64url 문자열로만 노출
+public class BoardCursor {
+    public static final String NEXT = "n";
+    public static final String PREV = "p";
+
+    private final String direction;
+    private final Integer id;
+
+    private BoardCursor(String direction, Integer id) {
+        this.direction = direction;
+        this.id = id;
+    }
+
+    public static BoardCursor next(Integer id) {
+        return new BoardCursor(NEXT, id);
+    }
+
+    public static BoardCursor prev(Integer id) {
+        return new BoardCursor(PREV, id);
+    }
+
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2 || !(parts[0].equals(NEXT) || parts[0].equals(PREV))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new BoardCursor(parts[0], Integer.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = direction + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isPrev() {
+        return PREV.equals(direction);
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+}
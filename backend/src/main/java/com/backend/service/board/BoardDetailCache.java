@@ -0,0 +1,65 @@
+package com.backend.service.board;
+
+import com.backend.service.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+// 게시물 상세 캐시 (Caffeine, W-TinyLFU)
+// board.detail-cache.size-by=entries 면 항목 수, bytes 면 CachedBoard.weight() 합으로 제한
+// 적중률 / 제거 수 / 로드 시간은 /actuator/metrics/cache.* (cache=board.detail)
+// 무효화는 커밋 뒤에 함 (커밋 전에 지우면 그 사이 조회가 옛 행을 다시 넣고 만료 없이 남음)
+// app.cluster.enabled 면 다른 서버의 변경은 BoardClusterEvents 로 무효화되고, 놓친 경우를 위해 cache-ttl-seconds 뒤 만료
+@Component
+public class BoardDetailCache {
+    private final Cache<Integer, CachedBoard> cache;
+
+    public BoardDetailCache(MeterRegistry registry,
+                            @Value("${board.detail-cache.size-by:entries}") String sizeBy,
+                            @Value("${board.detail-cache.max-entries:10000}") long maxEntries,
+                            @Value("${board.detail-cache.max-bytes:67108864}") long maxBytes,
+                            @Value("${app.cluster.enabled:false}") boolean clustered,
+                            @Value("${app.cluster.cache-ttl-seconds:30}") long clusterTtlSeconds) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (clustered) {
+            builder.expireAfterWrite(Duration.ofSeconds(clusterTtlSeconds));
+        }
+        switch (sizeBy) {
+            case "entries" -> builder.maximumSize(maxEntries);
+            case "bytes" -> builder.maximumWeight(maxBytes)
+                    .weigher((Integer id, CachedBoard board) -> board.weight());
+            default -> throw new IllegalArgumentException("board.detail-cache.size-by must be entries or bytes: " + sizeBy);
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(registry, cache, "board.detail");
+    }
+
+    // 없으면 loader 로 읽어서 저장 (loader 가 null 이면 저장하지 않음)
+    CachedBoard get(Integer boardId, Function<Integer, CachedBoard> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    CachedBoard getIfPresent(Integer boardId) {
+        return cache.getIfPresent(boardId);
+    }
+
+    public void invalidate(Integer boardId) {
+        AfterCommit.run(() -> cache.invalidate(boardId));
+    }
+
+    public void invalidateAll(Collection<Integer> boardIds) {
+        AfterCommit.run(() -> cache.invalidateAll(boardIds));
+    }
+
+    // 닉네임 변경 / 회원 탈퇴처럼 여러 게시물에 걸친 변경
+    public void invalidateAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+}
@@ -0,0 +1,176 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.BoardBlob;
+import com.backend.mapper.board.BoardBlobMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// 게시물 첨부파일 S3 업로드
+// 파일마다 SHA-256 을 먼저 계산하고 board_blob 에 참조를 잡은 뒤, 아직 저장되지 않은 본문만 올림
+// 한 요청의 파일들을 동시에 올리되 요청당 동시 업로드 수는 제한
+// 큰 파일은 S3AsyncClient 의 multipart 설정(AppConfiguration)에 따라 나눠서 올라감
+@Component
+public class BoardFileUploader {
+    private static final Logger logger = LoggerFactory.getLogger(BoardFileUploader.class);
+    // 해시 키 객체는 내용이 바뀌지 않음
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3AsyncClient s3AsyncClient;
+    private final BoardBlobMapper blobMapper;
+    private final BoardBlobStore blobStore;
+    private final String bucketName;
+    private final int concurrency;
+    // MultipartFile 스트림을 읽어서 넘겨주는 스레드
+    private final ExecutorService streamExecutor;
+
+    public BoardFileUploader(S3AsyncClient s3AsyncClient,
+                             BoardBlobMapper blobMapper,
+                             BoardBlobStore blobStore,
+                             @Value("${aws.s3.bucket.name}") String bucketName,
+                             @Value("${board.upload.concurrency:4}") int concurrency,
+                             @Value("${board.upload.threads:16}") int threads) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.blobMapper = blobMapper;
+        this.blobStore = blobStore;
+        this.bucketName = bucketName;
+        this.concurrency = concurrency;
+        this.streamExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "board-upload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // files 순서대로 (이름, 해시) 반환, 파일마다 board_blob 참조 하나씩 잡힌 상태
+    // 호출한 쪽이 board_file 에 기록하지 못하면 BoardBlobStore.release 로 돌려줘야 함
+    // 실패하면 잡은 참조를 돌려주고 예외 (올라간 본문은 collect 가 정리)
+    public List<Uploaded> upload(List<MultipartFile> files) throws IOException {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, BoardBlob> blobs = new LinkedHashMap<>();
+        Map<String, MultipartFile> sources = new LinkedHashMap<>();
+        List<String> hashes = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            String hash = sha256(file);
+            hashes.add(hash);
+            BoardBlob blob = blobs.computeIfAbsent(hash, h -> new BoardBlob(h, file.getSize(), file.getContentType(), 0));
+            blob.setRefCount(blob.getRefCount() + 1);
+            sources.putIfAbsent(hash, file);
+        }
+        blobMapper.acquire(new ArrayList<>(blobs.values()));
+
+        Set<String> transferred;
+        try {
+            List<String> stored = blobMapper.selectStored(blobs.keySet());
+            sources.keySet().removeAll(stored);
+            put(sources);
+            transferred = sources.keySet();
+            if (!transferred.isEmpty()) {
+                blobMapper.markStored(transferred);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                blobStore.release(hashes);
+            } catch (RuntimeException releaseError) {
+                // 참조 수는 BoardBlobStore.reconcile 에서 맞춤
+                logger.warn("failed to release blob references", releaseError);
+            }
+            throw e;
+        }
+
+        List<Uploaded> uploaded = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            String hash = hashes.get(i);
+            uploaded.add(new Uploaded(files.get(i).getOriginalFilename(), hash, transferred.contains(hash)));
+        }
+        return uploaded;
+    }
+
+    // 해시 -> 올릴 파일 (같은 내용은 한 번만)
+    private void put(Map<String, MultipartFile> sources) throws IOException {
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<?>> uploads = new ArrayList<>(sources.size());
+        try {
+            for (Map.Entry<String, MultipartFile> source : sources.entrySet()) {
+                permits.acquire();
+                MultipartFile file = source.getValue();
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(BoardBlobStore.key(source.getKey()))
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .contentType(file.getContentType())
+                        .cacheControl(CACHE_CONTROL)
+                        .contentLength(file.getSize())
+                        .build();
+                CompletableFuture<?> upload;
+                try {
+                    upload = s3AsyncClient.putObject(request,
+                            AsyncRequestBody.fromInputStream(file.getInputStream(), file.getSize(), streamExecutor));
+                } catch (IOException | RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                uploads.add(upload.whenComplete((response, error) -> permits.release()));
+            }
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("upload interrupted", e);
+        } catch (CompletionException e) {
+            throw new IOException("board file upload failed", e.getCause());
+        }
+    }
+
+    // 임시 파일(또는 메모리)에 받아 둔 요청 본문을 스트림으로 읽으며 계산
+    private static String sha256(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdown();
+    }
+
+    // transferred: 이번 요청에서 S3 에 올림 (이미 있던 본문이면 false)
+    public record Uploaded(String name, String hash, boolean transferred) {
+    }
+}
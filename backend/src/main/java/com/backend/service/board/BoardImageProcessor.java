@@ -0,0 +1,355 @@
+package com.backend.service.board;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 업로드된 이미지의 작은 크기 사본(derivative) 생성
+// prj3/blob/w{width}/{hash} 에 원본보다 좁은 폭만 저장하고 board_blob.widths 에 기록
+// 같은 내용의 본문은 사본도 공유하므로 새로 올라간 본문만 처리
+// 다시 인코딩하므로 EXIF 등 메타데이터는 빠짐 (JPEG 의 EXIF Orientation 은 먼저 읽어서 픽셀을 돌려 둠)
+// 사본을 올리는 동안 본문이 수거됐으면 올린 사본을 지움 (collect 는 이미 지나갔으므로)
+// 작업 큐가 차면 건너뜀 (목록은 원본 URL 로 동작)
+// 대기 중인 원본은 힙이 아니라 임시 파일에 둠 (큐 크기 x 최대 업로드 크기만큼 메모리를 잡지 않도록)
+// 디코딩 전에 헤더의 가로 x 세로만 읽어서 max-pixels 를 넘으면 건너뜀 (작은 파일로 압축된 거대한 PNG 등)
+@Component
+public class BoardImageProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(BoardImageProcessor.class);
+
+    // 목록 썸네일 / 홈 위젯 / 큰 화면
+    static final int[] WIDTHS = {320, 640, 1280};
+    private static final float JPEG_QUALITY = 0.85f;
+    // Orientation 을 찾을 앞부분 (APP1 세그먼트는 64KB 이하)
+    private static final int HEAD_BYTES = 128 * 1024;
+
+    private final S3Client s3Client;
+    private final BoardBlobStore blobStore;
+    private final BoardThumbnailResolver thumbnailResolver;
+    private final BoardWidgetService widgetService;
+    private final BoardVersions versions;
+    private final BoardClusterEvents clusterEvents;
+    private final String bucketName;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public BoardImageProcessor(S3Client s3Client,
+                               BoardBlobStore blobStore,
+                               BoardThumbnailResolver thumbnailResolver,
+                               BoardWidgetService widgetService,
+                               BoardVersions versions,
+                               BoardClusterEvents clusterEvents,
+                               @Value("${aws.s3.bucket.name}") String bucketName,
+                               @Value("${board.image.threads:2}") int threads,
+                               @Value("${board.image.queue-size:100}") int queueSize,
+                               @Value("${board.image.max-pixels:25000000}") long maxPixels) {
+        this.s3Client = s3Client;
+        this.blobStore = blobStore;
+        this.thumbnailResolver = thumbnailResolver;
+        this.widgetService = widgetService;
+        this.versions = versions;
+        this.clusterEvents = clusterEvents;
+        this.bucketName = bucketName;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "board-image");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 원본 업로드와 board_file 기록이 끝난 뒤 호출
+    // images: 본문 해시 -> 업로드 파일 (요청이 끝나면 MultipartFile 임시 파일이 지워지므로 작업용 임시 파일로 복사해 둠)
+    // boardId: 사본이 생기면 썸네일 캐시를 비울 게시물
+    public void submit(Integer boardId, Map<String, MultipartFile> images) {
+        for (Map.Entry<String, MultipartFile> image : images.entrySet()) {
+            String hash = image.getKey();
+            if (executor.getQueue().remainingCapacity() == 0) {
+                logger.warn("image queue full, skipped derivatives for blob {}", hash);
+                continue;
+            }
+            Path spooled;
+            try {
+                spooled = spool(image.getValue());
+            } catch (IOException e) {
+                logger.warn("image spool failed, skipped derivatives for blob {}", hash, e);
+                continue;
+            }
+            try {
+                executor.execute(() -> process(boardId, hash, spooled));
+            } catch (RejectedExecutionException e) {
+                logger.warn("image queue full, skipped derivatives for blob {}", hash);
+                delete(spooled);
+            }
+        }
+    }
+
+    private static Path spool(MultipartFile file) throws IOException {
+        Path spooled = Files.createTempFile("board-image-", null);
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            delete(spooled);
+            throw e;
+        }
+        return spooled;
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("temp image not deleted: {}", file, e);
+        }
+    }
+
+    private void process(Integer boardId, String hash, Path file) {
+        try {
+            BufferedImage decoded = decode(file, maxPixels);
+            if (decoded == null) {
+                return;
+            }
+            byte[] head = head(file);
+            BufferedImage source = orient(decoded, orientation(head));
+            boolean png = isPng(head);
+            StringJoiner widths = new StringJoiner(",");
+            List<String> keys = new ArrayList<>();
+            for (int width : WIDTHS) {
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                byte[] encoded = encode(resize(source, width, png), png);
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(BoardBlobStore.derivativeKey(hash, width))
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .contentType(png ? "image/png" : "image/jpeg")
+                        .cacheControl("public, max-age=31536000, immutable")
+                        .build();
+                s3Client.putObject(request, RequestBody.fromBytes(encoded));
+                widths.add(String.valueOf(width));
+                keys.add(request.key());
+            }
+            if (widths.length() > 0) {
+                if (!blobStore.updateWidths(hash, widths.toString())) {
+                    blobStore.deleteObjects(keys);
+                    return;
+                }
+                thumbnailResolver.evict(boardId);
+                widgetService.requestRefresh();
+                versions.listChanged();
+                clusterEvents.thumbnailsChanged(List.of(boardId));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("image derivatives failed for blob {}", hash, e);
+        } finally {
+            delete(file);
+        }
+    }
+
+    // 가로 x 세로가 maxPixels 를 넘거나 ImageIO 가 읽을 수 없는 형식(webp, heic 등)이면 null
+    static BufferedImage decode(Path file, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    logger.warn("image too large for derivatives: {}x{}", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static byte[] head(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.readNBytes(HEAD_BYTES);
+        }
+    }
+
+    // PNG 시그니처 (투명도 유지를 위해 PNG 로 다시 인코딩)
+    private static boolean isPng(byte[] bytes) {
+        return bytes.length > 3 && bytes[0] == (byte) 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G';
+    }
+
+    // JPEG APP1(Exif) 의 IFD0 Orientation 태그 (없거나 읽을 수 없으면 1 = 그대로)
+    static int orientation(byte[] bytes) {
+        if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int position = 2;
+        while (position + 4 <= bytes.length && (bytes[position] & 0xFF) == 0xFF) {
+            int marker = bytes[position + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                // 이미지 데이터 시작 (메타데이터는 그 앞에만 있음)
+                break;
+            }
+            int length = unsigned16(bytes, position + 2, false);
+            int end = position + 2 + length;
+            if (marker == 0xE1 && length >= 16 && end <= bytes.length
+                    && bytes[position + 4] == 'E' && bytes[position + 5] == 'x'
+                    && bytes[position + 6] == 'i' && bytes[position + 7] == 'f') {
+                return tiffOrientation(bytes, position + 10, end);
+            }
+            position = end;
+        }
+        return 1;
+    }
+
+    // start: TIFF 헤더 ("II" 리틀 엔디언 / "MM" 빅 엔디언)
+    private static int tiffOrientation(byte[] bytes, int start, int end) {
+        boolean little = bytes[start] == 'I' && bytes[start + 1] == 'I';
+        if (!little && !(bytes[start] == 'M' && bytes[start + 1] == 'M')) {
+            return 1;
+        }
+        long offset = unsigned32(bytes, start + 4, little);
+        if (offset < 8 || start + offset + 2 > end) {
+            return 1;
+        }
+        int ifd = start + (int) offset;
+        int count = unsigned16(bytes, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (unsigned16(bytes, entry, little) == 0x0112) {
+                int value = unsigned16(bytes, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int unsigned16(byte[] bytes, int position, boolean little) {
+        int a = bytes[position] & 0xFF;
+        int b = bytes[position + 1] & 0xFF;
+        return little ? b << 8 | a : a << 8 | b;
+    }
+
+    private static long unsigned32(byte[] bytes, int position, boolean little) {
+        long high = unsigned16(bytes, position, little);
+        long low = unsigned16(bytes, position + 2, little);
+        return little ? low << 16 | high : high << 16 | low;
+    }
+
+    // Orientation 2~8 을 픽셀에 적용 (5~8 은 가로세로가 바뀜)
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swap = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, boolean png) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        // 한 번에 많이 줄이면 계단 현상이 생기므로 절반씩 줄임
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        int type = png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = currentWidth == width ? height : Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean png) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (png) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,337 @@
+package com.backend.service.board;
+
+import com.backend.collection.IntHashSet;
+import com.backend.domain.board.BoardLike;
+import com.backend.mapper.board.BoardMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시물별 좋아요 회원 집합
+// 게시물 id 로 나눈 stripe 락 안에서 토글하므로 같은 게시물의 동시 클릭도 순서대로 처리되고
+// DB 에는 (게시물, 회원) 별 최종 상태만 모아서 주기적으로 반영 (write-behind)
+// 읽은 게시물은 max-boards 개까지 idle-minutes 동안 유지, 밀려난 뒤 다시 읽을 때는 아직 반영 전인 변경을 덧씌움
+// 반영이 실패하면 게시물별로 나눠 다시 씀: 없어진 게시물(삭제와 경합)의 변경은 버리고 나머지만 다음 주기에 재시도
+// app.cluster.enabled (서버 여러 대) 면 서버마다 집합이 어긋나므로 메모리에 두지 않고 토글마다 DB 에 바로 씀
+@Component
+public class BoardLikeEngine {
+    private static final Logger logger = LoggerFactory.getLogger(BoardLikeEngine.class);
+    private static final int STRIPES = 64;
+    private static final int FLUSH_CHUNK = 500;
+
+    private final BoardMapper mapper;
+    private final BoardStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardVersions versions;
+    private final boolean writeThrough;
+
+    private final Object[] locks = newLocks();
+    private final Cache<Integer, IntHashSet> likers;
+    // (boardId << 32 | memberId) -> 아직 DB 에 반영되지 않은 변경
+    private final Map<Long, PendingLike> pending = new ConcurrentHashMap<>();
+    // 지금 반영 중인 변경 (커밋 전에 다시 읽는 게시물에 덧씌움)
+    private volatile Map<Long, PendingLike> flushing = Map.of();
+
+    public BoardLikeEngine(BoardMapper mapper,
+                           BoardStatsService statsService,
+                           TransactionTemplate transactionTemplate,
+                           BoardVersions versions,
+                           MeterRegistry registry,
+                           @Value("${app.cluster.enabled:false}") boolean clustered,
+                           @Value("${board.like.max-boards:50000}") long maxBoards,
+                           @Value("${board.like.idle-minutes:60}") long idleMinutes) {
+        this.mapper = mapper;
+        this.statsService = statsService;
+        this.transactionTemplate = transactionTemplate;
+        this.versions = versions;
+        this.writeThrough = clustered;
+        this.likers = Caffeine.newBuilder()
+                .maximumSize(maxBoards)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, likers, "board.like.likers");
+    }
+
+    // 없는 게시물이면 IllegalArgumentException
+    public LikeState toggle(int boardId, int memberId) {
+        if (writeThrough) {
+            return toggleInDb(boardId, memberId);
+        }
+        synchronized (lock(boardId)) {
+            IntHashSet members = load(boardId);
+            // 좋아요가 하나도 없는 게시물만 존재 확인 (좋아요 row 가 있으면 board 도 있음)
+            if (members.size() == 0 && !mapper.existsById(boardId)) {
+                likers.invalidate(boardId);
+                throw new IllegalArgumentException("board not found: " + boardId);
+            }
+            boolean liked = members.add(memberId);
+            if (!liked) {
+                members.remove(memberId);
+            }
+            // 반영 전에 원래 상태로 돌아오면 쓸 게 없음
+            pending.merge(key(boardId, memberId), new PendingLike(!liked, liked),
+                    (before, now) -> before.initial == now.current ? null : new PendingLike(before.initial, now.current));
+            return new LikeState(liked, members.size());
+        }
+    }
+
+    public boolean isLiked(int boardId, int memberId) {
+        if (writeThrough) {
+            return mapper.selectLikeByBoardIdAndMemberId(boardId, memberId) > 0;
+        }
+        synchronized (lock(boardId)) {
+            return load(boardId).contains(memberId);
+        }
+    }
+
+    public int count(int boardId) {
+        if (writeThrough) {
+            return mapper.selectLikeMemberIdsByBoardId(boardId).size();
+        }
+        synchronized (lock(boardId)) {
+            return load(boardId).size();
+        }
+    }
+
+    // 이미 읽어 둔 게시물이면 메모리 상태, 아니면 null
+    // 읽기 전에는 반영 대기 중인 변경도 없으므로 DB 값이 그대로 최신
+    public LikeState peek(int boardId, Integer memberId) {
+        if (writeThrough) {
+            return null;
+        }
+        synchronized (lock(boardId)) {
+            IntHashSet members = likers.getIfPresent(boardId);
+            if (members == null) {
+                return null;
+            }
+            return new LikeState(memberId != null && members.contains(memberId), members.size());
+        }
+    }
+
+    // 게시물 삭제 전에 호출 (반영 중인 flush 가 끝난 뒤 정리)
+    public synchronized void removeBoard(int boardId) {
+        synchronized (lock(boardId)) {
+            likers.invalidate(boardId);
+            pending.keySet().removeIf(key -> (int) (key >>> 32) == boardId);
+        }
+    }
+
+    // 회원 탈퇴 시 좋아요 row 를 지우기 전에 호출
+    public synchronized void removeMember(int memberId) {
+        pending.keySet().removeIf(key -> (int) key.longValue() == memberId);
+        for (Integer boardId : likers.asMap().keySet()) {
+            synchronized (lock(boardId)) {
+                IntHashSet members = likers.getIfPresent(boardId);
+                if (members != null) {
+                    members.remove(memberId);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.like.flush-millis:1000}")
+    public synchronized void flush() {
+        Map<Long, PendingLike> batch = new HashMap<>();
+        for (Long key : pending.keySet()) {
+            PendingLike change = pending.remove(key);
+            if (change != null) {
+                batch.put(key, change);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        flushing = batch;
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            logger.warn("like flush failed, {} changes retried per board", batch.size(), e);
+            writeEachBoard(batch);
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(Map<Long, PendingLike> changes) {
+        List<BoardLike> inserts = new ArrayList<>();
+        List<BoardLike> deletes = new ArrayList<>();
+        Map<Integer, Integer> deltas = new HashMap<>();
+        changes.forEach((key, change) -> {
+            BoardLike like = new BoardLike((int) (key >>> 32), (int) key.longValue());
+            (change.current ? inserts : deletes).add(like);
+            deltas.merge(like.getBoardId(), change.current ? 1 : -1, Integer::sum);
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<BoardLike> chunk : chunks(inserts)) {
+                mapper.insertLikes(chunk);
+            }
+            for (List<BoardLike> chunk : chunks(deletes)) {
+                mapper.deleteLikes(chunk);
+            }
+            // INSERT IGNORE 등으로 어긋난 값은 BoardStatsService.reconcile 에서 맞춤
+            statsService.likesChanged(deltas);
+        });
+        // 목록의 좋아요 수는 board_stats 에서 읽음
+        versions.listChanged();
+    }
+
+    // 한 게시물의 변경 때문에 전체가 계속 실패하지 않도록
+    private void writeEachBoard(Map<Long, PendingLike> batch) {
+        Map<Integer, Map<Long, PendingLike>> byBoard = new LinkedHashMap<>();
+        batch.forEach((key, change) -> byBoard.computeIfAbsent((int) (key >>> 32), id -> new HashMap<>()).put(key, change));
+
+        List<Map<Long, PendingLike>> boards = new ArrayList<>(byBoard.values());
+        for (int i = 0; i < boards.size(); i++) {
+            Map<Long, PendingLike> changes = boards.get(i);
+            int boardId = (int) (changes.keySet().iterator().next() >>> 32);
+            try {
+                write(changes);
+                continue;
+            } catch (RuntimeException e) {
+                Boolean exists = existsQuietly(boardId);
+                if (Boolean.FALSE.equals(exists)) {
+                    logger.warn("like changes for missing board {} dropped ({} changes)", boardId, changes.size());
+                    synchronized (lock(boardId)) {
+                        likers.invalidate(boardId);
+                    }
+                    continue;
+                }
+                if (exists == null) {
+                    // DB 자체에 못 붙음 -> 남은 게시물은 시도하지 않고 모두 다음 주기로
+                    boards.subList(i, boards.size()).forEach(this::requeue);
+                    return;
+                }
+                logger.warn("like flush failed for board {}, retried later", boardId, e);
+                requeue(changes);
+            }
+        }
+    }
+
+    // 확인 자체가 실패하면 null
+    private Boolean existsQuietly(int boardId) {
+        try {
+            return mapper.existsById(boardId);
+        } catch (RuntimeException e) {
+            logger.warn("like flush: board {} existence check failed", boardId, e);
+            return null;
+        }
+    }
+
+    // 다음 주기에 다시 시도 (그 사이 바뀐 상태와 합침)
+    private void requeue(Map<Long, PendingLike> changes) {
+        changes.forEach((key, change) -> pending.merge(key, change,
+                (newer, failed) -> failed.initial == newer.current ? null : new PendingLike(failed.initial, newer.current)));
+    }
+
+    private LikeState toggleInDb(int boardId, int memberId) {
+        return transactionTemplate.execute(status -> {
+            List<Integer> memberIds = mapper.selectLikeMemberIdsByBoardId(boardId);
+            if (memberIds.isEmpty() && !mapper.existsById(boardId)) {
+                throw new IllegalArgumentException("board not found: " + boardId);
+            }
+            boolean liked = !memberIds.contains(memberId);
+            List<BoardLike> like = List.of(new BoardLike(boardId, memberId));
+            if (liked) {
+                mapper.insertLikes(like);
+            } else {
+                mapper.deleteLikes(like);
+            }
+            statsService.likesChanged(Map.of(boardId, liked ? 1 : -1));
+            versions.listChanged();
+            return new LikeState(liked, memberIds.size() + (liked ? 1 : -1));
+        });
+    }
+
+    // stripe 락 안에서 호출
+    private IntHashSet load(int boardId) {
+        IntHashSet members = likers.getIfPresent(boardId);
+        if (members == null) {
+            List<Integer> memberIds = mapper.selectLikeMemberIdsByBoardId(boardId);
+            members = new IntHashSet(memberIds.size());
+            for (Integer memberId : memberIds) {
+                members.add(memberId);
+            }
+            // 캐시에서 밀려난 뒤 다시 읽는 경우: 반영 중 / 반영 대기 중인 최종 상태를 덧씌움
+            unflushed(boardId, flushing, members);
+            unflushed(boardId, pending, members);
+            likers.put(boardId, members);
+        }
+        return members;
+    }
+
+    private static void unflushed(int boardId, Map<Long, PendingLike> changes, IntHashSet members) {
+        changes.forEach((key, change) -> {
+            if ((int) (key >>> 32) == boardId) {
+                int memberId = (int) key.longValue();
+                if (change.current) {
+                    members.add(memberId);
+                } else {
+                    members.remove(memberId);
+                }
+            }
+        });
+    }
+
+    private Object lock(int boardId) {
+        return locks[Math.floorMod(boardId, STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private static long key(int boardId, int memberId) {
+        return ((long) boardId << 32) | (memberId & 0xFFFFFFFFL);
+    }
+
+    private static List<List<BoardLike>> chunks(List<BoardLike> likes) {
+        List<List<BoardLike>> chunks = new ArrayList<>();
+        for (int from = 0; from < likes.size(); from += FLUSH_CHUNK) {
+            chunks.add(likes.subList(from, Math.min(from + FLUSH_CHUNK, likes.size())));
+        }
+        return chunks;
+    }
+
+    public record LikeState(boolean liked, int count) {
+    }
+
+    private static class PendingLike {
+        // DB 에 있는 상태
+        final boolean initial;
+        // 메모리의 현재 상태
+        final boolean current;
+
+        PendingLike(boolean initial, boolean current) {
+            this.initial = initial;
+            this.current = current;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.backend.service.board;
+
+import com.backend.service.AfterCommit;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 검색 결과 캐시: (boardType, searchType, keyword) -> 정렬된 게시물 id 목록
+// 게시물 내용은 넣지 않고 페이지마다 selectAllPagingByIds 로 읽으므로 항목이 작음
+// 같은 검색이 동시에 들어오면 처음 요청만 검색하고 나머지는 그 결과를 기다림
+// 게시물 쓰기가 있으면 세대를 올려서 전부 무효 (쓰기 전에 시작한 검색 결과는 예전 세대 키에 들어가 안 읽힘)
+@Component
+public class BoardSearchCache {
+    private final AsyncCache<Key, List<Integer>> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public BoardSearchCache(MeterRegistry registry,
+                            @Value("${board.search-cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${board.search-cache.max-ids:1000000}") long maxIds) {
+        // 무게 = id 개수 (결과 없는 검색도 1)
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumWeight(maxIds)
+                .weigher((Key key, List<Integer> ids) -> Math.max(1, ids.size()))
+                .buildAsync();
+        this.hits = registry.counter("board.search.cache", "result", "hit");
+        this.misses = registry.counter("board.search.cache", "result", "miss");
+        registry.gauge("board.search.cache.size", cache, c -> c.synchronous().estimatedSize());
+    }
+
+    // 없으면 호출한 스레드에서 loader 실행 (Caffeine 공용 스레드 풀에서 DB 를 기다리지 않도록)
+    // loader 가 실패하면 (Error 포함) 기다리던 요청도 같이 실패하고 항목은 남지 않음
+    public List<Integer> ids(String boardType, String searchType, String keyword, Supplier<List<Integer>> loader) {
+        Key key = new Key(generation.get(), boardType, searchType, keyword);
+        CompletableFuture<List<Integer>> loading = new CompletableFuture<>();
+        CompletableFuture<List<Integer>> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            hits.increment();
+            return join(existing);
+        }
+
+        misses.increment();
+        try {
+            loading.complete(List.copyOf(loader.get()));
+        } catch (Throwable e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return join(loading);
+    }
+
+    // 게시물 추가 / 수정 / 삭제, 닉네임 변경 후 (커밋 전에 비우면 그 사이 검색이 옛 결과를 새 세대로 넣음)
+    public void invalidateAll() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.synchronous().invalidateAll();
+        });
+    }
+
+    private static List<Integer> join(CompletableFuture<List<Integer>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(long generation, String boardType, String searchType, String keyword) {
+    }
+}
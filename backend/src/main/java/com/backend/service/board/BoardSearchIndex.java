@@ -0,0 +1,186 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.mapper.board.BoardMapper;
+import com.backend.search.InvertedIndex;
+import com.backend.service.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+// 게시물 검색 색인 (제목 / 본문 / 작성자 닉네임)
+// 시작할 때 board 테이블로 빌드하고 BoardService 쓰기마다 갱신 (쓰기 트랜잭션이 커밋된 뒤에)
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    private static final int TITLE = 0;
+    private static final int CONTENT = 1;
+    private static final int WRITER = 2;
+    private static final int FIELD_COUNT = 3;
+
+    private final BoardMapper mapper;
+
+    // 빌드 전에는 null -> 호출 쪽에서 SQL 검색으로 대체
+    private volatile InvertedIndex index;
+    private volatile boolean building;
+    // 빌드 도중 바뀐 게시물은 빌드 후 다시 반영
+    private final Set<Integer> changedWhileBuilding = ConcurrentHashMap.newKeySet();
+
+    private final Map<Integer, String> boardTypes = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> memberIds = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        building = true;
+        changedWhileBuilding.clear();
+        try {
+            List<Board> boards = mapper.selectAllForSearchIndex();
+            Map<Integer, String[]> docs = new HashMap<>();
+            boardTypes.clear();
+            memberIds.clear();
+            for (Board board : boards) {
+                docs.put(board.getId(), fields(board));
+                remember(board);
+            }
+            index = InvertedIndex.build(FIELD_COUNT, docs);
+        } finally {
+            building = false;
+        }
+
+        for (Integer boardId : changedWhileBuilding) {
+            reindex(boardId);
+        }
+        changedWhileBuilding.clear();
+        logger.info("board search index built: {} boards", index.size());
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    // 색인에 있는 게시물인지 (빌드 전 / 빌드 중이면 알 수 없으므로 null)
+    public Boolean contains(Integer boardId) {
+        if (index == null || building) {
+            return null;
+        }
+        return boardTypes.containsKey(boardId);
+    }
+
+    // 게시물 추가/수정 후 호출 (커밋된 뒤 DB 에서 다시 읽어서 반영, 없으면 제거)
+    public void refresh(Integer boardId) {
+        AfterCommit.run(() -> reindex(boardId));
+    }
+
+    public void remove(Integer boardId) {
+        AfterCommit.run(() -> drop(boardId));
+    }
+
+    private void reindex(Integer boardId) {
+        if (building) {
+            changedWhileBuilding.add(boardId);
+        }
+        InvertedIndex current = index;
+        if (current == null) {
+            return;
+        }
+        Board board = mapper.selectForSearchIndex(boardId);
+        if (board == null) {
+            drop(boardId);
+            return;
+        }
+        remember(board);
+        current.put(boardId, fields(board));
+    }
+
+    private void drop(Integer boardId) {
+        if (building) {
+            changedWhileBuilding.add(boardId);
+        }
+        InvertedIndex current = index;
+        if (current != null) {
+            current.remove(boardId);
+        }
+        boardTypes.remove(boardId);
+        memberIds.remove(boardId);
+    }
+
+    // 닉네임 변경 시 해당 회원 게시물의 작성자 필드만 교체
+    public void renameWriter(Integer memberId, String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            InvertedIndex current = index;
+            if (current == null) {
+                return;
+            }
+            memberIds.forEach((boardId, writerId) -> {
+                if (writerId.equals(memberId)) {
+                    String[] doc = current.document(boardId);
+                    if (doc != null) {
+                        doc[WRITER] = nickname;
+                        current.put(boardId, doc);
+                    }
+                }
+            });
+        });
+    }
+
+    // 검색 모드 "전체" / "글" / "작성자" -> 점수순 게시물 id
+    // 색인이 아직 없으면 null
+    public List<Integer> search(String boardType, String searchType, String keyword) {
+        InvertedIndex current = index;
+        if (current == null) {
+            return null;
+        }
+
+        int[] fields;
+        int[] weights;
+        switch (searchType) {
+            case "글" -> {
+                fields = new int[]{TITLE, CONTENT};
+                weights = new int[]{3, 1};
+            }
+            case "작성자" -> {
+                fields = new int[]{WRITER};
+                weights = new int[]{1};
+            }
+            default -> {
+                fields = new int[]{TITLE, CONTENT, WRITER};
+                weights = new int[]{3, 1, 2};
+            }
+        }
+
+        IntPredicate filter = (boardType == null || boardType.equals("전체"))
+                ? boardId -> true
+                : boardId -> boardType.equals(boardTypes.get(boardId));
+        return current.search(keyword, fields, weights, filter);
+    }
+
+    private void remember(Board board) {
+        if (board.getBoardType() != null) {
+            boardTypes.put(board.getId(), board.getBoardType());
+        }
+        memberIds.put(board.getId(), board.getMemberId());
+    }
+
+    private static String[] fields(Board board) {
+        String[] fields = new String[FIELD_COUNT];
+        fields[TITLE] = board.getTitle();
+        fields[CONTENT] = board.getContent();
+        fields[WRITER] = board.getWriter();
+        return fields;
+    }
+}
@@ -2,25 +2,33 @@ package com.backend.service.board;
 
 
 import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardDetail;
 import com.backend.domain.board.BoardFile;
 import com.backend.domain.board.BoardReport;
 import com.backend.mapper.board.BoardCommentMapper;
 import com.backend.mapper.board.BoardMapper;
+import com.backend.service.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,37 +37,71 @@ import java.util.stream.Collectors;
 @Transactional(rollbackFor = Exception.class)
 @RequiredArgsConstructor
 public class BoardService {
+    private static final Logger logger = LoggerFactory.getLogger(BoardService.class);
+    // 상세 조회에 같이 싣는 댓글 수
+    private static final int DETAIL_COMMENT_PAGE = 20;
+    // 목록 썸네일 표시 폭
+    private static final int LIST_THUMBNAIL_WIDTH = 320;
+
     private final BoardMapper mapper;
-    private final S3Client s3Client;
+    private final BoardBlobStore blobStore;
     private final BoardCommentMapper boardCommentMapper;
+    private final BoardThumbnailResolver thumbnailResolver;
+    private final BoardStatsService statsService;
+    private final BoardSearchIndex searchIndex;
+    private final BoardCountService countService;
+    private final BoardViewCounter viewCounter;
+    private final BoardWidgetService widgetService;
+    private final BoardTrendingService trendingService;
+    private final BoardLikeEngine likeEngine;
+    private final BoardFileUploader fileUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BoardDetailCache detailCache;
+    private final BoardImageProcessor imageProcessor;
+    private final BoardVersions versions;
+    private final BoardSuggestService suggestService;
+    private final BoardSearchCache searchCache;
+    private final BoardUniqueViews uniqueViews;
+    private final BoardClusterEvents clusterEvents;
 
     // session의
     private static String PAGE_INFO_SESSION_KEY = "pageInfo";
     // private static final String PAGE_INFO_SESSION_KEY = null;
 
-    // aws.s3.bucket.name의 프로퍼티 값 주입
-    @Value("${aws.s3.bucket.name}")
-    private String bucketName;
-
     @Value("${image.src.prefix}")
     private String srcPrefix;
 
+    // S3 업로드 동안 DB 커넥션을 잡고 있지 않도록 업로드는 트랜잭션 밖에서 먼저 함
+    // 파일 병렬 업로드 (내용 해시 키라 게시물 id 가 필요 없음, 이미 있는 본문은 건너뜀)
+    // -> 게시물 / board_file / board_stats 를 한 트랜잭션으로 기록 (첨부 없는 게시물이 잠깐이라도 보이지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void add(Board board, MultipartFile[] files) throws Exception {
+        List<MultipartFile> fileList = files == null ? List.of() : Arrays.asList(files);
+        List<BoardFileUploader.Uploaded> uploaded = fileUploader.upload(fileList);
 
-
-        mapper.insert(board);
-
-        if (files != null && files.length > 0) {
-            for (MultipartFile file : files) {
-                mapper.insertFileName(board.getId(), file.getOriginalFilename());
-
-                // 실제 파일 저장 (s3)
-                // 부모 디렉토리 만들기
-                String key = String.format("prj3/board/%d/%s", board.getId(), file.getOriginalFilename());
-                s3Client.putObject(builder -> builder.bucket(bucketName).key(key).acl(ObjectCannedACL.PUBLIC_READ),
-                        RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                mapper.insert(board);
+                for (BoardFileUploader.Uploaded file : uploaded) {
+                    mapper.insertFile(board.getId(), file.name(), file.hash());
+                }
+                statsService.boardAdded(board.getId(), fileList.size());
+            });
+        } catch (RuntimeException e) {
+            // 잡아 둔 참조를 돌려줌 (올라간 본문은 collect 가 정리)
+            blobStore.release(uploaded.stream().map(BoardFileUploader.Uploaded::hash).toList());
+            throw e;
         }
+        imageProcessor.submit(board.getId(), newImages(fileList, uploaded));
+        versions.boardChanged(board.getId());
+        thumbnailResolver.evict(board.getId());
+        searchIndex.refresh(board.getId());
+        suggestService.boardSaved(board.getId());
+        searchCache.invalidateAll();
+        countService.boardAdded(board.getBoardType());
+        widgetService.requestRefresh();
+        clusterEvents.boardsSaved(List.of(board.getId()));
     }
 
     public boolean validate(Board board) throws Exception {
@@ -112,13 +154,18 @@ public class BoardService {
             pageInfo.put("currentPageNumber", page);
         }
 
-        Integer countByBoardType;
-        if (boardType.equals("전체") && searchType.equals("전체") && keyword.equals("")) {
+        // 검색어가 있으면 id 목록을 캐시에서 받음 (색인에서 점수순, 색인 준비 전이면 SQL LIKE 한 번으로 최신순)
+        List<Integer> rankedIds = keyword.equals("") ? null : searchCache.ids(boardType, searchType, keyword, () -> {
+            List<Integer> ids = searchIndex.search(boardType, searchType, keyword);
+            return ids != null ? ids : mapper.selectSearchIds(boardType, searchType, keyword);
+        });
 
-            countByBoardType = mapper.selectAllCount();
+        Integer countByBoardType;
+        if (rankedIds != null) {
+            countByBoardType = rankedIds.size();
         } else {
-//            System.out.println("이것은 서비스의 boardType = " + boardType);
-            countByBoardType = mapper.selectByBoardType(boardType, searchType, keyword);
+            // 검색어 없으면 메모리 카운트, 있으면 짧은 TTL 캐시
+            countByBoardType = countService.count(boardType, searchType, keyword);
         }
 
         Integer lastPageNumber = (countByBoardType - 1) / pageAmount + 1;
@@ -139,106 +186,340 @@ public class BoardService {
         pageInfo.put("rightPageNumber", rightPageNumber);
         pageInfo.put("offset", offset);
 
-        List<Board> boardList = mapper.selectAllPaging(offset, pageAmount, boardType, searchType, keyword);
-
-        // 각각의 Board 객체에 fileList 추가
-        for (Board board : boardList) {
-//            System.out.println("Board ID: " + board.getId());
-
-            // getFileImageByboardId 메서드 호출
-            String firstImageName = mapper.getFileImageByboardId(board.getId().toString());
-//            System.out.println("File Name: " + firstImageName);
+        List<Board> boardList = rankedIds != null
+                ? selectByRankedIds(rankedIds, offset, pageAmount)
+                : mapper.selectAllPaging(offset, pageAmount, boardType, searchType, keyword);
+        setThumbnails(boardList);
+        viewCounter.overlay(boardList);
+        uniqueViews.overlay(boardList);
 
-            if (firstImageName != null) {
-                String thumbnailUrl = srcPrefix + "board/" + board.getId() + "/" + firstImageName;
+        return Map.of("pageInfo", pageInfo, "boardList", boardList);
+    }
 
-//                System.out.println("First Image Name: " + firstImageName);
-//                System.out.println("Thumbnail URL: " + thumbnailUrl);
+    // 커서 기반 목록: COUNT(*) 없이 b.id 기준으로 seek
+    public Map<String, Object> cursorList(String cursor, Integer pageAmount, String boardType,
+                                          String searchType, String keyword) {
+        if (pageAmount <= 0) {
+            throw new IllegalArgumentException("pageAmount must be greater than 0");
+        }
 
-                List<BoardFile> files = Collections.singletonList(new BoardFile(firstImageName, thumbnailUrl));
-                board.setFileList(files);
+        BoardCursor current = (cursor == null || cursor.isBlank()) ? null : BoardCursor.decode(cursor);
+        boolean prev = current != null && current.isPrev();
+        Integer lastId = current == null ? null : current.getId();
+
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        List<Board> boardList = new ArrayList<>(
+                mapper.selectPagingByCursor(lastId, prev, pageAmount + 1, boardType, searchType, keyword));
+        boolean hasMore = boardList.size() > pageAmount;
+        if (hasMore) {
+            // 결과는 항상 id 내림차순, 이전 방향이면 맨 앞이 초과분
+            boardList.remove(prev ? 0 : boardList.size() - 1);
+        }
+        boolean hasNext = prev || hasMore;
+        boolean hasPrev = prev ? hasMore : current != null;
 
-//                System.out.println("Updated FileList: " + board.getFileList());
+        Map<String, Object> pageInfo = new HashMap<>();
+        pageInfo.put("hasNext", hasNext);
+        pageInfo.put("hasPrev", hasPrev);
+        if (!boardList.isEmpty()) {
+            if (hasNext) {
+                pageInfo.put("nextCursor", BoardCursor.next(boardList.get(boardList.size() - 1).getId()).encode());
+            }
+            if (hasPrev) {
+                pageInfo.put("prevCursor", BoardCursor.prev(boardList.get(0).getId()).encode());
             }
         }
 
+        setThumbnails(boardList);
+        viewCounter.overlay(boardList);
+        uniqueViews.overlay(boardList);
+
         return Map.of("pageInfo", pageInfo, "boardList", boardList);
     }
 
-    public Map<String, Object> getByBoardIdAndMemberId(Integer id, Integer memberId) {
-        int views = mapper.selectCountById(id);
-        mapper.incrementViewsById(id, views);
+    // 점수순 id 목록 중 현재 페이지만 조회하고 순서 유지
+    private List<Board> selectByRankedIds(List<Integer> rankedIds, int offset, int pageAmount) {
+        int from = Math.min(offset, rankedIds.size());
+        int to = Math.min(offset + pageAmount, rankedIds.size());
+        List<Integer> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
+        Map<Integer, Board> byId = new HashMap<>();
+        for (Board board : mapper.selectAllPagingByIds(pageIds)) {
+            byId.put(board.getId(), board);
+        }
+        List<Board> boardList = new ArrayList<>(pageIds.size());
+        for (Integer id : pageIds) {
+            Board board = byId.get(id);
+            if (board != null) {
+                boardList.add(board);
+            }
+        }
+        return boardList;
+    }
+
+    private void setThumbnails(List<Board> boardList) {
+        if (boardList.isEmpty()) {
+            return;
+        }
+        // 페이지 크기와 상관없이 한 번에 조회 (캐시에 있으면 쿼리 없음)
+        List<Integer> boardIds = boardList.stream().map(Board::getId).collect(Collectors.toList());
+        Map<Integer, BoardThumbnailResolver.Thumbnail> thumbnails = thumbnailResolver.resolve(boardIds);
+
+        // 각각의 Board 객체에 fileList 추가 (목록 썸네일 크기 사본이 있으면 그 URL)
+        for (Board board : boardList) {
+            BoardThumbnailResolver.Thumbnail thumbnail = thumbnails.get(board.getId());
+            if (thumbnail != null) {
+                String thumbnailUrl = BoardBlobStore.url(srcPrefix, board.getId(), thumbnail.name(), thumbnail.hash(), thumbnail.widths(), LIST_THUMBNAIL_WIDTH);
+                List<BoardFile> files = Collections.singletonList(new BoardFile(thumbnail.name(), thumbnailUrl));
+                board.setFileList(files);
+            }
+        }
+    }
+
+    // 게시물 / 파일 / 댓글 첫 페이지는 상세 캐시에서, 없으면 쿼리 한 번으로 읽어서 저장
+    // 조회수와 좋아요는 캐시와 별개로 살아있는 값을 덧씌움
+    // viewer: 순 조회자 키 (BoardUniqueViews.viewer)
+    public Map<String, Object> getByBoardIdAndMemberId(Integer id, Integer memberId, String viewer) {
         Map<String, Object> result = new HashMap<>();
-        Board board = mapper.selectById(id);
-        List<String> fileNames = mapper.selectFileNameByBoardId(id);
-        List<BoardFile> files = fileNames.stream()
-                .map(name -> new BoardFile(name, srcPrefix + "board/" + +id + "/" + name)).collect(Collectors.toList());
-        board.setFileList(files);
+        BoardDetail[] loaded = new BoardDetail[1];
+        CachedBoard cached = detailCache.get(id, boardId -> {
+            BoardDetail detail = mapper.selectDetail(boardId, memberId, DETAIL_COMMENT_PAGE + 1);
+            loaded[0] = detail;
+            return detail == null ? null : toCachedBoard(detail);
+        });
+        if (cached == null) {
+            result.put("board", null);
+            return result;
+        }
+        // 조회수는 메모리에 모았다가 주기적으로 반영
+        viewCounter.increment(id);
+        uniqueViews.viewed(id, viewer);
+        cached.viewed();
+
+        Board board = cached.toBoard(srcPrefix);
+        board.setUniqueViews((int) uniqueViews.count(id));
+        trendingService.viewed(board);
+
+        // 좋아요는 반영 대기 중인 변경이 있을 수 있으므로 엔진에 있으면 엔진 값 우선
+        // 방금 DB 에서 읽었고 엔진에 없으면 그 값이 최신
+        BoardLikeEngine.LikeState likeState = likeEngine.peek(id, memberId);
         Map<String, Object> like = new HashMap<>();
-//        System.out.println("files = " + files);
-//        System.out.println("fileNames = " + fileNames);
-        if (memberId == null) {
-            like.put("like", false);
+        if (likeState == null && loaded[0] != null) {
+            like.put("like", memberId != null && Boolean.TRUE.equals(loaded[0].getLiked()));
+            like.put("count", loaded[0].getLikeCount());
+        } else if (likeState == null) {
+            like.put("like", memberId != null && likeEngine.isLiked(id, memberId));
+            like.put("count", likeEngine.count(id));
         } else {
-            int c = mapper.selectLikeByBoardIdAndMemberId(id, memberId);
-            like.put("like", c == 1);
+            like.put("like", likeState.liked());
+            like.put("count", likeState.count());
         }
-        like.put("count", mapper.selectCountLikeByBoardId(id));
+
         result.put("board", board);
         result.put("like", like);
+        result.put("comments", cached.comments());
+        result.put("hasMoreComments", cached.hasMoreComments());
+        return result;
+    }
+
+    // 304 로 응답한 상세 조회도 조회수 / 인기 급상승에는 셈 (캐시에 있으면 DB 커넥션 없이)
+    // ETag 는 아무 id 로나 보낼 수 있으므로 있는 게시물일 때만 셈 (없는 id 의 스케치는 FK 때문에 저장도 안 됨)
+    // 있는지는 상세 캐시 -> 검색 색인 순으로 메모리에서 확인, 색인을 빌드하는 중에만 DB 에 물어봄
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void viewed(Integer id, String viewer) {
+        CachedBoard cached = detailCache.getIfPresent(id);
+        if (cached == null) {
+            Boolean indexed = searchIndex.contains(id);
+            if (indexed == null ? !mapper.existsById(id) : !indexed) {
+                return;
+            }
+        }
+        viewCounter.increment(id);
+        uniqueViews.viewed(id, viewer);
+        if (cached != null) {
+            cached.viewed();
+            trendingService.viewed(cached.toBoard(srcPrefix));
+        }
+    }
 
+    private CachedBoard toCachedBoard(BoardDetail detail) {
+        Board board = new Board();
+        board.setId(detail.getId());
+        board.setTitle(detail.getTitle());
+        board.setContent(detail.getContent());
+        board.setInserted(detail.getInserted());
+        board.setWriter(detail.getWriter());
+        board.setMemberId(detail.getMemberId());
+        board.setBoardType(detail.getBoardType());
+
+        List<CachedBoard.FileRef> files = readJson(detail.getFiles(), new TypeReference<List<CachedBoard.FileRef>>() {
+        });
+        List<BoardComment> comments = new ArrayList<>(readJson(detail.getComments(), new TypeReference<List<BoardComment>>() {
+        }));
+        boolean hasMoreComments = comments.size() > DETAIL_COMMENT_PAGE;
+        if (hasMoreComments) {
+            comments.remove(comments.size() - 1);
+        }
+        comments.forEach(comment -> comment.setBoardId(detail.getId()));
 
-        return result;
+        long views = detail.getViews() == null ? 0 : detail.getViews();
+        return new CachedBoard(board, files, comments, hasMoreComments, views + viewCounter.pending(detail.getId()));
+    }
+
+    // JSON_ARRAYAGG 결과 (행이 없으면 NULL)
+    private <T> List<T> readJson(String json, TypeReference<List<T>> type) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("invalid board detail json", e);
+        }
     }
 
     public void delete(Integer id) {
-        //file명 조회
-        List<String> fileNames = mapper.selectFileNameByBoardId(id);
-        //s3에 있는 file
-        for (String fileName : fileNames) {
-            String key = STR."prj3/board/\{id}/\{fileName}";
-            DeleteObjectRequest objectRequest = DeleteObjectRequest.builder().bucket(bucketName).key(key).build();
-            s3Client.deleteObject(objectRequest);
+        deleteAll(List.of(id));
+    }
+
+    // 여러 게시물을 한 번에 삭제 (관리자 신고 처리, 회원 탈퇴)
+    // 하위 테이블은 IN 으로 한 번씩, 첨부 본문은 참조 수만 줄임 (S3 삭제는 BoardBlobStore.collect)
+    public void deleteAll(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
         }
+        List<Integer> boardIds = ids.stream().distinct().toList();
+        List<Board> deleted = mapper.selectOwnersByIds(boardIds);
+        //예전 방식(hash 없음) 파일은 바로 지울 키
+        List<String> legacyKeys = new ArrayList<>();
+        for (Map<String, Object> file : mapper.selectFileNamesByBoardIds(boardIds)) {
+            if (file.get("hash") == null) {
+                legacyKeys.addAll(BoardBlobStore.legacyKeys((Integer) file.get("boardId"), (String) file.get("name")));
+            }
+        }
+
         //board_file
-        mapper.deleteFileByBoardId(id);
+        blobStore.releaseByBoardIds(boardIds);
+        mapper.deleteFilesByBoardIds(boardIds);
         //board_like
-        mapper.deleteLikeByBoardId(id);
+        boardIds.forEach(likeEngine::removeBoard);
+        mapper.deleteLikesByBoardIds(boardIds);
         //board_comment
-        boardCommentMapper.deleteByBoardId(id);
+        boardCommentMapper.deleteByBoardIds(boardIds);
+        //board_stats
+        statsService.boardsDeleted(boardIds);
+        //board_view_sketch
+        uniqueViews.boardsDeleted(boardIds);
         //board
-        mapper.deleteById(id);
+        mapper.deleteByIds(boardIds);
+
+        //s3에 있는 file (커밋된 뒤에 지움, 회원 탈퇴처럼 바깥 트랜잭션이 롤백되면 board_file 행이 되살아나므로)
+        AfterCommit.run(() -> blobStore.deleteObjects(legacyKeys));
+
+        detailCache.invalidateAll(boardIds);
+        versions.boardsChanged(boardIds);
+        suggestService.boardsRemoved(boardIds);
+        searchCache.invalidateAll();
+        for (Integer id : boardIds) {
+            thumbnailResolver.evict(id);
+            searchIndex.remove(id);
+            viewCounter.discard(id);
+            trendingService.removed(id);
+        }
+        for (Board board : deleted) {
+            countService.boardDeleted(board.getBoardType());
+        }
+        widgetService.requestRefresh();
+        clusterEvents.boardsRemoved(boardIds);
     }
 
+    // 사본을 만들 이미지: 이번에 새로 올라간 본문만 (이미 있던 본문은 사본도 있음)
+    private static Map<String, MultipartFile> newImages(List<MultipartFile> files, List<BoardFileUploader.Uploaded> uploaded) {
+        Map<String, MultipartFile> images = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            BoardFileUploader.Uploaded blob = uploaded.get(i);
+            String contentType = file.getContentType();
+            if (blob.transferred() && contentType != null && contentType.startsWith("image/")) {
+                images.putIfAbsent(blob.hash(), file);
+            }
+        }
+        return images;
+    }
+
+    // add 와 같은 이유로 업로드 -> DB 반영 -> S3 삭제 순서
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void edit(Board board, List<String> removeFileList, MultipartFile[] addFileList) throws IOException {
-        if (removeFileList != null && removeFileList.size() > 0) {
-            for (String fileName : removeFileList) {
-                //s3파일 삭제
-                String key = STR."prj3/board/\{board.getId()}/\{fileName}";
-                DeleteObjectRequest objectRequest = DeleteObjectRequest.builder().bucket(bucketName).key(key).build();
-                s3Client.deleteObject(objectRequest);
+        List<String> removeFiles = removeFileList == null ? List.of() : removeFileList;
+        List<MultipartFile> addFiles = addFileList == null ? List.of() : Arrays.asList(addFileList);
 
+        //s3에 쓰기 (이미 있는 본문은 건너뜀)
+        List<BoardFileUploader.Uploaded> uploaded = fileUploader.upload(addFiles);
+
+        // 지우거나 덮어쓴 예전 방식 파일 (게시물 전용 키라 바로 삭제)
+        List<String> legacyKeys = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int delta = 0;
+                Map<String, String> current = new HashMap<>();
+                for (Map<String, Object> file : mapper.selectFilesByBoardId(board.getId())) {
+                    current.put((String) file.get("name"), (String) file.get("hash"));
+                }
+                // 더 이상 쓰지 않는 본문 참조
+                List<String> released = new ArrayList<>();
                 //db 레코드 삭제
-                mapper.deleteFileByBoardIdAndName(board.getId(), fileName);
-            }
-        }
-        if (addFileList != null && addFileList.length > 0) {
-            List<String> fileNameList = mapper.selectFileNameByBoardId(board.getId());
-            for (MultipartFile file : addFileList) {
-                String fileName = file.getOriginalFilename();
-                if (!fileNameList.contains(fileName)) {
-                    //새 파일이 기존에 없을때만 db에 추가
-                    mapper.insertFileName(board.getId(), fileName);
+                for (String fileName : removeFiles) {
+                    if (mapper.deleteFileByBoardIdAndName(board.getId(), fileName) > 0) {
+                        delta--;
+                        String hash = current.remove(fileName);
+                        if (hash == null) {
+                            legacyKeys.addAll(BoardBlobStore.legacyKeys(board.getId(), fileName));
+                        }
+                        released.add(hash);
+                    }
                 }
-                //s3에 쓰기
-                String key = STR."prj3/board/\{board.getId()}/\{fileName}";
-                PutObjectRequest objectRequest = PutObjectRequest.builder().bucket(bucketName).key(key).acl(ObjectCannedACL.PUBLIC_READ).build();
-
-                s3Client.putObject(objectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-            }
+                for (BoardFileUploader.Uploaded file : uploaded) {
+                    if (current.containsKey(file.name())) {
+                        // 같은 이름으로 다시 올린 파일은 새 본문으로 교체
+                        mapper.updateFileHash(board.getId(), file.name(), file.hash());
+                        String previous = current.put(file.name(), file.hash());
+                        if (previous == null) {
+                            legacyKeys.addAll(BoardBlobStore.legacyKeys(board.getId(), file.name()));
+                        }
+                        released.add(previous);
+                    } else {
+                        //새 파일이 기존에 없을때만 db에 추가
+                        mapper.insertFile(board.getId(), file.name(), file.hash());
+                        current.put(file.name(), file.hash());
+                        delta++;
+                    }
+                }
+                blobStore.release(released);
+                mapper.update(board);
+                statsService.imagesChanged(board.getId(), delta);
+            });
+        } catch (RuntimeException e) {
+            blobStore.release(uploaded.stream().map(BoardFileUploader.Uploaded::hash).toList());
+            throw e;
         }
-        mapper.update(board);
+
+        //s3파일 삭제 (해시 키 본문은 참조가 없어진 뒤 BoardBlobStore.collect 가 지움)
+        blobStore.deleteObjects(legacyKeys);
+        imageProcessor.submit(board.getId(), newImages(addFiles, uploaded));
+
+        thumbnailResolver.evict(board.getId());
+        detailCache.invalidate(board.getId());
+        versions.boardChanged(board.getId());
+        searchIndex.refresh(board.getId());
+        suggestService.boardSaved(board.getId());
+        searchCache.invalidateAll();
+        countService.boardEdited();
+        trendingService.edited(board.getId(), board.getBoardType());
+        widgetService.requestRefresh();
+        clusterEvents.boardsSaved(List.of(board.getId()));
     }
 
     public boolean hasAccess(Integer id, Integer memberId) {
@@ -252,9 +533,21 @@ public class BoardService {
 
     }
 
+    // 모든 게시물이 있고 memberId 가 작성자(또는 관리자)인지 한 번에 확인
+    public boolean hasAccessAll(List<Integer> ids, Integer memberId) {
+        if (ids.isEmpty()) {
+            return true;
+        }
+        List<Integer> boardIds = ids.stream().distinct().toList();
+        List<Board> boards = mapper.selectOwnersByIds(boardIds);
+        if (boards.size() != boardIds.size()) {
+            return false;
+        }
+        return (memberId != null && memberId == 1) || boards.stream().allMatch(board -> board.getMemberId().equals(memberId));
+    }
+
     public Map<String, Object> like(Map<String, Object> req) {
         Map<String, Object> result = new HashMap<>();
-        result.put("like", false);
 
         Integer boardId;
         Integer memberId;
@@ -272,14 +565,14 @@ public class BoardService {
 
 //        System.out.println("이것은 서비스의 req = " + req);
 
-        // 이미 했으면
-        int count = mapper.deleteLikeByBoardIdAndMemberId(boardId, memberId);
-        // 안 했으면 (삭제된 행이 없으면)
-        if (count == 0) {
-            mapper.insertLikeByBoardIdAndMemberId(boardId, memberId);
-            result.put("like", true);
-        }
-        result.put("count", mapper.selectCountLikeByBoardId(boardId));
+        // 메모리에서 토글하고 DB / board_stats 는 BoardLikeEngine 이 모아서 반영
+        BoardLikeEngine.LikeState toggle = likeEngine.toggle(boardId, memberId);
+        result.put("like", toggle.liked());
+        trendingService.liked(boardId, toggle.liked() ? 1 : -1);
+        versions.boardChanged(boardId);
+        widgetService.requestRefresh();
+        clusterEvents.boardsChanged(List.of(boardId));
+        result.put("count", toggle.count());
 
         return result;
     }
@@ -300,6 +593,7 @@ public class BoardService {
         int count = mapper.selectCountReportWithPrimaryKey(boardReport);
         if (count == 0) {
             mapper.insertReport(boardReport);
+            countService.reportAdded();
             return true;
         } else {
             return false;
@@ -351,14 +645,7 @@ public class BoardService {
             pageInfo.put("currentPageNumber", page);
         }
 
-        Integer countByBoardType;
-        if (boardType.equals("전체") && searchType.equals("전체") && keyword.equals("")) {
-
-            countByBoardType = mapper.selectAllCountWithReportBoard();
-        } else {
-//            System.out.println("이것은 서비스의 boardType = " + boardType);
-            countByBoardType = mapper.selectByBoardTypeWithReportBoard(boardType, searchType, keyword);
-        }
+        Integer countByBoardType = countService.reportCount(boardType, searchType, keyword);
 
         Integer lastPageNumber = (countByBoardType - 1) / pageAmount + 1;
         Integer leftPageNumber = (page - 1) / 10 * 10 + 1;
@@ -396,33 +683,30 @@ public class BoardService {
         return response;
     }
 
+    // 홈 위젯은 스냅샷에서 응답
     public List<Board> getLatestBoards() {
-        return mapper.selectLatestBoards();
+        return widgetService.getLatestBoards();
     }
 
     public List<Board> getPopularBoards() {
-        return mapper.selectPopularBoards();
+        return widgetService.getPopularBoards();
     }
 
     public List<Map<String, Object>> getTopLikedImages() {
-        List<Map<String, Object>> topLikedImages = mapper.selectTopLikedImages();
-        return topLikedImages.stream()
-                .peek(image -> {
-                    String imageUrl = (String) image.get("imageUrl");
-                    Integer id = (Integer) image.get("id");
-                    image.put("imageUrl", srcPrefix + "board/" + id + "/" + imageUrl);
-                })
-                .collect(Collectors.toList());
+        return widgetService.getTopLikedImages();
     }
 
     public List<Map<String, Object>> getGuideBoards() {
-        List<Map<String, Object>> GuideBoards = mapper.selectGuideBoards();
-        return GuideBoards.stream()
-                .peek(image -> {
-                    String imageUrl = (String) image.get("imageUrl");
-                    Integer id = (Integer) image.get("id");
-                    image.put("imageUrl", srcPrefix + "board/" + id + "/" + imageUrl);
-                })
-                .collect(Collectors.toList());
+        return widgetService.getGuideBoards();
+    }
+
+    // 인기 급상승 (시간 감쇠 점수순)
+    public List<Board> getTrendingBoards(String boardType, Integer limit) {
+        List<Integer> rankedIds = trendingService.top(boardType, limit);
+        List<Board> boardList = selectByRankedIds(rankedIds, 0, rankedIds.size());
+        setThumbnails(boardList);
+        viewCounter.overlay(boardList);
+        uniqueViews.overlay(boardList);
+        return boardList;
     }
 }
@@ -0,0 +1,74 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardStatsMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+// board_stats 카운터 유지
+// 게시물/좋아요/댓글 쓰기와 같은 트랜잭션에서 증감
+@Service
+@Transactional(rollbackFor = Exception.class)
+@RequiredArgsConstructor
+public class BoardStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(BoardStatsService.class);
+
+    private final BoardStatsMapper mapper;
+
+    public void boardAdded(Integer boardId, int numberOfImages) {
+        mapper.insert(boardId, numberOfImages);
+    }
+
+    public void imagesChanged(Integer boardId, int delta) {
+        if (delta != 0) {
+            mapper.addImages(boardId, delta);
+        }
+    }
+
+    public void likeChanged(Integer boardId, int delta) {
+        if (delta != 0) {
+            mapper.addLikes(boardId, delta);
+        }
+    }
+
+    // 좋아요 write-behind 반영 시 게시물별 증감
+    public void likesChanged(Map<Integer, Integer> deltas) {
+        deltas.forEach(this::likeChanged);
+    }
+
+    public void commentAdded(Integer boardId) {
+        mapper.addComments(boardId, 1);
+    }
+
+    // 댓글 row 를 지우기 전에 호출해야 함
+    public void commentRemoving(Integer commentId) {
+        mapper.subtractCommentByCommentId(commentId);
+    }
+
+    public void boardsDeleted(List<Integer> boardIds) {
+        mapper.deleteByBoardIds(boardIds);
+    }
+
+    // 회원의 좋아요/댓글 row 를 지우기 전에 호출해야 함
+    public void memberDeleting(Integer memberId) {
+        mapper.subtractLikesByMemberId(memberId);
+        mapper.subtractCommentsByMemberId(memberId);
+    }
+
+    // 시작 시 + 매일 새벽 원본 테이블 기준으로 다시 맞춤
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${board.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int rebuilt = mapper.rebuildAll();
+        int orphans = mapper.deleteOrphans();
+        logger.info("board_stats reconciled: {} rows upserted, {} orphans removed", rebuilt, orphans);
+    }
+}
@@ -0,0 +1,248 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.domain.member.Member;
+import com.backend.mapper.board.BoardMapper;
+import com.backend.mapper.member.MemberMapper;
+import com.backend.search.SuggestIndex;
+import com.backend.service.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 검색창 자동완성 (게시물 제목 / 회원 닉네임)
+// 가중치: 게시물은 1 + 조회수 + 좋아요 * 10, 닉네임은 1 + 그 회원 게시물 가중치 합
+// 시작 시와 주기적으로 다시 빌드해서 가중치를 맞추고, 그 사이에는 쓰기마다 항목만 갱신
+// 메모리 한도를 넘으면 가중치가 낮은 문자열부터 빠짐 (못 넣은 출처는 indexed=false 로 기억해서 나중에 빼지 않음)
+@Component
+public class BoardSuggestService {
+    private static final Logger logger = LoggerFactory.getLogger(BoardSuggestService.class);
+    public static final int TITLE = 0;
+    public static final int WRITER = 1;
+    private static final int LIKE_WEIGHT = 10;
+
+    private final BoardMapper boardMapper;
+    private final MemberMapper memberMapper;
+    private final long maxBytes;
+
+    // 빌드 전에는 null (빈 결과)
+    private volatile State state;
+    // 빌드 중에 들어온 변경 (빌드 결과에 다시 적용, 모두 같은 값을 다시 넣어도 결과가 같음)
+    private List<Consumer<State>> changedWhileBuilding;
+
+    public BoardSuggestService(BoardMapper boardMapper,
+                               MemberMapper memberMapper,
+                               @Value("${board.suggest.max-bytes:16777216}") long maxBytes) {
+        this.boardMapper = boardMapper;
+        this.memberMapper = memberMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.suggest.rebuild-millis:3600000}", initialDelayString = "${board.suggest.rebuild-millis:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changedWhileBuilding = new ArrayList<>();
+        }
+        State built;
+        try {
+            built = build();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedWhileBuilding = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            changedWhileBuilding.forEach(change -> change.accept(built));
+            changedWhileBuilding = null;
+            state = built;
+        }
+        logger.info("board suggest index built: {} entries, {} bytes", built.index.size(), built.index.bytes());
+    }
+
+    // searchType: 검색창과 같은 "전체" / "글" / "작성자"
+    public List<Map<String, Object>> suggest(String keyword, String searchType, int limit) {
+        State current = state;
+        if (current == null) {
+            return List.of();
+        }
+        int kindMask = switch (searchType) {
+            case "글" -> 1 << TITLE;
+            case "작성자" -> 1 << WRITER;
+            default -> (1 << TITLE) | (1 << WRITER);
+        };
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (SuggestIndex.Suggestion suggestion : current.index.top(keyword, kindMask, limit)) {
+            result.add(Map.of("text", suggestion.text(), "type", suggestion.kind() == TITLE ? "title" : "writer"));
+        }
+        return result;
+    }
+
+    // 게시물 추가 / 수정 후
+    // 아래 갱신은 모두 쓰기 트랜잭션이 커밋된 뒤에 반영 (롤백된 쓰기가 후보로 남지 않도록)
+    public void boardSaved(Integer boardId) {
+        AfterCommit.run(() -> {
+            Board board = boardMapper.selectForSearchIndex(boardId);
+            if (board == null) {
+                apply(state -> state.removeBoard(boardId));
+                return;
+            }
+            apply(state -> state.putBoard(board.getId(), board.getTitle(), board.getMemberId(), null));
+        });
+    }
+
+    public void boardsRemoved(List<Integer> boardIds) {
+        AfterCommit.run(() -> apply(state -> boardIds.forEach(state::removeBoard)));
+    }
+
+    // 가입 / 닉네임 변경 후
+    public void memberSaved(Integer memberId, String nickname) {
+        if (memberId == null || nickname == null) {
+            return;
+        }
+        AfterCommit.run(() -> apply(state -> state.putMember(memberId, nickname)));
+    }
+
+    public void memberRemoved(Integer memberId) {
+        AfterCommit.run(() -> apply(state -> state.removeMember(memberId)));
+    }
+
+    private synchronized void apply(Consumer<State> change) {
+        if (changedWhileBuilding != null) {
+            changedWhileBuilding.add(change);
+        }
+        if (state != null) {
+            change.accept(state);
+        }
+    }
+
+    private State build() {
+        State built = new State(new SuggestIndex(maxBytes));
+        List<Board> boards = boardMapper.selectForSuggest();
+        Map<Integer, Long> writerWeights = new HashMap<>();
+        for (Board board : boards) {
+            writerWeights.merge(board.getMemberId(), popularity(board), Long::sum);
+        }
+
+        // 메모리 한도 안에서 가중치 높은 것부터 들어가도록 정렬해서 넣음
+        List<Runnable> inserts = new ArrayList<>();
+        List<Long> weights = new ArrayList<>();
+        for (Board board : boards) {
+            long weight = popularity(board);
+            inserts.add(() -> built.boards.put(board.getId(), new BoardSource(board.getTitle(), board.getMemberId(), weight,
+                    built.index.add(TITLE, board.getTitle(), weight))));
+            weights.add(weight);
+        }
+        for (Member member : memberMapper.selectNicknames()) {
+            long weight = 1 + writerWeights.getOrDefault(member.getId(), 0L);
+            inserts.add(() -> built.members.put(member.getId(), new MemberSource(member.getNickname(), weight,
+                    built.index.add(WRITER, member.getNickname(), weight))));
+            weights.add(weight);
+        }
+        List<Integer> order = new ArrayList<>(inserts.size());
+        for (int i = 0; i < inserts.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong(weights::get).reversed());
+        for (Integer i : order) {
+            inserts.get(i).run();
+        }
+        return built;
+    }
+
+    private static long popularity(Board board) {
+        long views = board.getViews() == null ? 0 : board.getViews();
+        long likes = board.getNumberOfLikes() == null ? 0 : board.getNumberOfLikes();
+        return 1 + views + likes * LIKE_WEIGHT;
+    }
+
+    // indexed: 색인에 실제로 들어갔는지 (메모리 한도로 못 넣었으면 빼지도 않음)
+    private record BoardSource(String title, Integer memberId, long weight, boolean indexed) {
+    }
+
+    private record MemberSource(String nickname, long weight, boolean indexed) {
+    }
+
+    // 색인과 (출처 -> 넣은 값), 같은 값으로 빼야 합계가 맞음
+    // BoardSuggestService 의 락 안에서만 바뀜
+    private static class State {
+        final SuggestIndex index;
+        final Map<Integer, BoardSource> boards = new HashMap<>();
+        final Map<Integer, MemberSource> members = new HashMap<>();
+
+        State(SuggestIndex index) {
+            this.index = index;
+        }
+
+        // weight 가 null 이면 기존 가중치 유지 (새 게시물은 1)
+        void putBoard(Integer boardId, String title, Integer memberId, Long weight) {
+            BoardSource previous = boards.remove(boardId);
+            long boardWeight = weight != null ? weight : previous != null ? previous.weight : 1;
+            if (previous != null) {
+                subtract(previous);
+                addWriterWeight(previous.memberId, -previous.weight);
+            }
+            boards.put(boardId, new BoardSource(title, memberId, boardWeight, index.add(TITLE, title, boardWeight)));
+            addWriterWeight(memberId, boardWeight);
+        }
+
+        void removeBoard(Integer boardId) {
+            BoardSource previous = boards.remove(boardId);
+            if (previous != null) {
+                subtract(previous);
+                addWriterWeight(previous.memberId, -previous.weight);
+            }
+        }
+
+        void putMember(Integer memberId, String nickname) {
+            MemberSource previous = members.remove(memberId);
+            long weight = previous == null ? 1 : previous.weight;
+            if (previous != null) {
+                subtract(previous);
+            }
+            members.put(memberId, new MemberSource(nickname, weight, index.add(WRITER, nickname, weight)));
+        }
+
+        void removeMember(Integer memberId) {
+            MemberSource previous = members.remove(memberId);
+            if (previous != null) {
+                subtract(previous);
+            }
+        }
+
+        // 못 넣었던 닉네임도 가중치는 계속 맞춰 두고, 자리가 났으면 이번에 넣음
+        private void addWriterWeight(Integer memberId, long delta) {
+            MemberSource member = members.get(memberId);
+            if (member == null) {
+                return;
+            }
+            subtract(member);
+            long weight = member.weight + delta;
+            members.put(memberId, new MemberSource(member.nickname, weight, index.add(WRITER, member.nickname, weight)));
+        }
+
+        private void subtract(BoardSource source) {
+            if (source.indexed) {
+                index.subtract(TITLE, source.title, source.weight);
+            }
+        }
+
+        private void subtract(MemberSource source) {
+            if (source.indexed) {
+                index.subtract(WRITER, source.nickname, source.weight);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardMapper;
+import com.backend.service.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물 id -> 썸네일(첫 번째 파일명 + 본문 해시 + 만들어진 사본 폭) 캐시
+// 캐시에 없는 id는 한 번의 IN 쿼리로 조회
+// evict 는 커밋 뒤에 함 (BoardDetailCache 와 같은 이유)
+@Component
+@RequiredArgsConstructor
+public class BoardThumbnailResolver {
+    private static final int MAX_ENTRIES = 10_000;
+    // 파일 없는 게시물도 캐시해서 다시 조회하지 않음
+    private static final Thumbnail NO_FILE = new Thumbnail(null, null, null);
+
+    private final BoardMapper mapper;
+
+    // access-order LinkedHashMap 으로 LRU
+    private final Map<Integer, Thumbnail> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Thumbnail> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    // 조회 도중 evict 된 값을 다시 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // boardId -> 첫 번째 파일 (파일 없으면 키 없음)
+    public Map<Integer, Thumbnail> resolve(List<Integer> boardIds) {
+        Map<Integer, Thumbnail> result = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer boardId : boardIds) {
+            Thumbnail thumbnail = cache.get(boardId);
+            if (thumbnail == null) {
+                missing.add(boardId);
+            } else if (thumbnail != NO_FILE) {
+                result.put(boardId, thumbnail);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long gen = generation.get();
+            Map<Integer, Thumbnail> loaded = new HashMap<>();
+            for (Map<String, Object> row : mapper.selectFirstFileNameByBoardIds(missing)) {
+                loaded.put(((Number) row.get("boardId")).intValue(),
+                        new Thumbnail((String) row.get("name"), (String) row.get("hash"), (String) row.get("widths")));
+            }
+            result.putAll(loaded);
+
+            synchronized (cache) {
+                if (generation.get() == gen) {
+                    for (Integer boardId : missing) {
+                        cache.put(boardId, loaded.getOrDefault(boardId, NO_FILE));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public void evict(Integer boardId) {
+        AfterCommit.run(() -> {
+            synchronized (cache) {
+                generation.incrementAndGet();
+                cache.remove(boardId);
+            }
+        });
+    }
+
+    // 다른 서버의 변경을 놓쳤을 때를 대비해 전부 다시 읽게 함 (BoardClusterEvents.expire)
+    public void clear() {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    // hash: 예전 방식 파일이면 null, widths: 만들어진 사본 폭 ("320,640", 없으면 null)
+    public record Thumbnail(String name, String hash, String widths) {
+    }
+}
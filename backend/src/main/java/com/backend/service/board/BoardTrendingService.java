@@ -0,0 +1,342 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardComment;
+import com.backend.mapper.board.BoardMapper;
+import com.backend.ranking.IndexedMaxHeap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// 인기 급상승 게시물
+// 점수 = sum(가중치 * 2^(-경과시간 / 반감기)), 좋아요 3 / 댓글 2 / 조회 1
+// 시간이 지나도 모든 점수가 같은 비율로 줄어드므로 기준 시각(anchor) 대비 가중치를 키워서 더하고 (forward decay)
+// 힙 순서는 그대로 둔 채 가끔 전체를 같은 비율로 줄여 기준 시각을 옮김
+// 좋아요 취소는 그 게시물에 좋아요로 더해진 점수의 평균만큼 뺌 (지금 시각 가중치로 빼면 오래된 좋아요보다 훨씬 커짐)
+// 조회는 잠금 없이 게시물별 LongAdder 에 모았다가 view-flush-millis 마다 한 번에 더함 (다시 빌드하는 동안은 모아 두기만 함)
+@Service
+public class BoardTrendingService {
+    private static final Logger logger = LoggerFactory.getLogger(BoardTrendingService.class);
+
+    private static final double LIKE_WEIGHT = 3;
+    private static final double COMMENT_WEIGHT = 2;
+    private static final double VIEW_WEIGHT = 1;
+    // 가중치 지수가 이만큼 커지면 기준 시각을 옮김 (e^20 ~ 5억)
+    private static final double MAX_EXPONENT = 20;
+    // 조회 1회가 이 값 아래로 줄어든 게시물은 제외
+    private static final double PRUNE_SCORE = 1e-3;
+    private static final double HOUR_MILLIS = 3_600_000d;
+
+    private final BoardMapper mapper;
+    // 시간당 감쇠율
+    private final double lambda;
+    private final long windowDays;
+
+    private State state;
+    // 아직 점수에 더하지 않은 조회
+    private final Map<Integer, PendingViews> pendingViews = new ConcurrentHashMap<>();
+    // 빌드 중 들어온 변경은 빌드 후 새 상태에 다시 적용
+    private List<Consumer<State>> replay;
+
+    public BoardTrendingService(BoardMapper mapper,
+                                @Value("${board.trending.half-life-hours:24}") double halfLifeHours,
+                                @Value("${board.trending.window-days:7}") long windowDays) {
+        this.mapper = mapper;
+        this.lambda = Math.log(2) / halfLifeHours;
+        this.windowDays = windowDays;
+        this.state = new State(System.currentTimeMillis());
+    }
+
+    // 최근 windowDays 동안의 게시물 / 댓글로 다시 계산
+    // 조회수와 좋아요는 시각이 없어서 게시물 작성 시각에 발생한 것으로 봄
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            replay = new ArrayList<>();
+        }
+        try {
+            long now = System.currentTimeMillis();
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            State next = new State(now);
+            Map<Integer, String> types = new HashMap<>();
+            for (Board board : mapper.selectForTrending(since)) {
+                int likes = board.getNumberOfLikes() == null ? 0 : board.getNumberOfLikes();
+                int views = board.getViews() == null ? 0 : board.getViews();
+                types.put(board.getId(), board.getBoardType());
+                next.types.put(board.getId(), board.getBoardType());
+                long inserted = toMillis(board.getInserted());
+                double likeScore = weight(next, inserted, LIKE_WEIGHT * likes);
+                next.liked(board.getId(), likes, likeScore);
+                next.add(board.getId(), board.getBoardType(), likeScore + weight(next, inserted, VIEW_WEIGHT * views));
+            }
+            for (BoardComment comment : mapper.selectCommentsForTrending(since)) {
+                Integer boardId = comment.getBoardId();
+                if (types.containsKey(boardId)) {
+                    next.types.put(boardId, types.get(boardId));
+                    next.add(boardId, types.get(boardId), weight(next, toMillis(comment.getInserted()), COMMENT_WEIGHT));
+                }
+            }
+            next.prune(PRUNE_SCORE);
+
+            synchronized (this) {
+                for (Consumer<State> change : replay) {
+                    change.accept(next);
+                }
+                state = next;
+                logger.info("board trending built: {} boards", next.all.size());
+            }
+        } finally {
+            synchronized (this) {
+                replay = null;
+            }
+        }
+    }
+
+    public void viewed(Board board) {
+        Integer boardId = board.getId();
+        PendingViews views = pendingViews.computeIfAbsent(boardId, id -> new PendingViews(board.getBoardType()));
+        views.count.increment();
+        // flush 가 막 떼어낸 카운터에 더했으면 현재 카운터로 옮김 (BoardViewCounter 와 같은 방식)
+        while (pendingViews.get(boardId) != views) {
+            long moved = views.count.sumThenReset();
+            if (moved == 0) {
+                break;
+            }
+            views = pendingViews.computeIfAbsent(boardId, id -> new PendingViews(board.getBoardType()));
+            views.count.add(moved);
+        }
+    }
+
+    // 모인 조회를 점수에 더함 (빌드 중이면 다음 주기로 미룸, replay 가 조회마다 늘지 않도록)
+    @Scheduled(fixedDelayString = "${board.trending.view-flush-millis:5000}")
+    public void flushViews() {
+        synchronized (this) {
+            if (replay != null) {
+                return;
+            }
+        }
+        pendingViews.forEach((boardId, views) -> {
+            long count = views.count.sum();
+            if (count > 0) {
+                views.count.add(-count);
+                record(boardId, views.boardType, VIEW_WEIGHT * count, 0);
+            } else {
+                pendingViews.remove(boardId, views);
+            }
+        });
+    }
+
+    // delta: +1 좋아요, -n 좋아요 취소
+    public void liked(Integer boardId, int delta) {
+        record(boardId, null, LIKE_WEIGHT * delta, delta);
+    }
+
+    public void commented(Integer boardId) {
+        record(boardId, null, COMMENT_WEIGHT, 0);
+    }
+
+    // 게시판 종류가 바뀌었을 수 있음
+    public synchronized void edited(Integer boardId, String boardType) {
+        apply(s -> s.retype(boardId, boardType));
+    }
+
+    public synchronized void removed(Integer boardId) {
+        pendingViews.remove(boardId);
+        apply(s -> s.remove(boardId));
+    }
+
+    // 점수 높은 순 게시물 id
+    public synchronized List<Integer> top(String boardType, int limit) {
+        IndexedMaxHeap heap = (boardType == null || boardType.equals("전체"))
+                ? state.all
+                : state.byType.get(boardType);
+        List<Integer> ids = new ArrayList<>();
+        if (heap != null) {
+            for (int id : heap.top(limit)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    // 기준 시각을 현재로 옮기면서 충분히 식은 게시물 정리
+    @Scheduled(fixedDelayString = "${board.trending.rebase-millis:3600000}", initialDelayString = "${board.trending.rebase-millis:3600000}")
+    public synchronized void rebase() {
+        apply(s -> rebase(s, System.currentTimeMillis()));
+    }
+
+    private void record(Integer boardId, String boardType, double amount, int likeDelta) {
+        String type = boardType;
+        boolean known;
+        synchronized (this) {
+            known = state.types.containsKey(boardId);
+            if (type == null && known) {
+                type = state.types.get(boardId);
+            }
+        }
+        if (type == null && !known) {
+            // 집계 창 밖의 오래된 게시물
+            Board board = mapper.selectBoardById(boardId);
+            if (board == null) {
+                return;
+            }
+            type = board.getBoardType();
+        }
+
+        String resolvedType = type;
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            apply(s -> {
+                if (s.anchor + HOUR_MILLIS * MAX_EXPONENT / lambda < now) {
+                    rebase(s, now);
+                }
+                double score;
+                if (likeDelta < 0) {
+                    score = -s.unliked(boardId, -likeDelta);
+                    if (score == 0) {
+                        return;
+                    }
+                } else {
+                    score = weight(s, now, amount);
+                    s.liked(boardId, likeDelta, score);
+                }
+                s.types.putIfAbsent(boardId, resolvedType);
+                s.add(boardId, s.types.get(boardId), score);
+            });
+        }
+    }
+
+    // synchronized 안에서 호출
+    private void apply(Consumer<State> change) {
+        change.accept(state);
+        if (replay != null) {
+            replay.add(change);
+        }
+    }
+
+    private void rebase(State s, long now) {
+        double factor = Math.exp(-lambda * (now - s.anchor) / HOUR_MILLIS);
+        s.all.scale(factor);
+        s.byType.values().forEach(heap -> heap.scale(factor));
+        s.likes.values().forEach(share -> share.score *= factor);
+        s.anchor = now;
+        s.prune(PRUNE_SCORE);
+    }
+
+    private double weight(State s, long at, double amount) {
+        return amount * Math.exp(lambda * (at - s.anchor) / HOUR_MILLIS);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null
+                ? System.currentTimeMillis()
+                : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static class State {
+        long anchor;
+        final IndexedMaxHeap all = new IndexedMaxHeap();
+        final Map<String, IndexedMaxHeap> byType = new HashMap<>();
+        // 게시판 종류가 없는 게시물은 null 값
+        final Map<Integer, String> types = new HashMap<>();
+        // 게시물별 좋아요로 더해진 점수 (기준 시각 단위, 힙과 같이 줄임)
+        final Map<Integer, LikeShare> likes = new HashMap<>();
+
+        State(long anchor) {
+            this.anchor = anchor;
+        }
+
+        void add(int boardId, String boardType, double amount) {
+            all.add(boardId, amount);
+            if (boardType != null) {
+                byType.computeIfAbsent(boardType, t -> new IndexedMaxHeap()).add(boardId, amount);
+            }
+        }
+
+        void liked(int boardId, int count, double score) {
+            if (count > 0) {
+                LikeShare share = likes.computeIfAbsent(boardId, id -> new LikeShare());
+                share.count += count;
+                share.score += score;
+            }
+        }
+
+        // 뺄 점수 (좋아요가 기록된 적 없으면 0)
+        double unliked(int boardId, int count) {
+            LikeShare share = likes.get(boardId);
+            if (share == null) {
+                return 0;
+            }
+            int removed = Math.min(count, share.count);
+            double score = share.score * removed / share.count;
+            share.count -= removed;
+            share.score -= score;
+            if (share.count == 0) {
+                likes.remove(boardId);
+            }
+            return score;
+        }
+
+        void retype(int boardId, String boardType) {
+            if (!all.contains(boardId)) {
+                return;
+            }
+            String old = types.get(boardId);
+            if (old != null && old.equals(boardType)) {
+                return;
+            }
+            double score = all.score(boardId);
+            if (old != null && byType.containsKey(old)) {
+                byType.get(old).remove(boardId);
+            }
+            types.put(boardId, boardType);
+            if (boardType != null) {
+                byType.computeIfAbsent(boardType, t -> new IndexedMaxHeap()).add(boardId, score);
+            }
+        }
+
+        void remove(int boardId) {
+            all.remove(boardId);
+            String type = types.remove(boardId);
+            if (type != null && byType.containsKey(type)) {
+                byType.get(type).remove(boardId);
+            }
+            likes.remove(boardId);
+        }
+
+        void prune(double threshold) {
+            List<Integer> cold = new ArrayList<>();
+            for (Integer id : types.keySet()) {
+                if (all.score(id) < threshold) {
+                    cold.add(id);
+                }
+            }
+            cold.forEach(this::remove);
+        }
+    }
+
+    private record PendingViews(String boardType, LongAdder count) {
+        PendingViews(String boardType) {
+            this(boardType, new LongAdder());
+        }
+    }
+
+    private static class LikeShare {
+        int count;
+        double score;
+    }
+}
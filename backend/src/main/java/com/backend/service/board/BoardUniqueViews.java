@@ -0,0 +1,175 @@
+package com.backend.service.board;
+
+import com.backend.collection.HyperLogLog;
+import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardViewSketch;
+import com.backend.mapper.board.BoardViewSketchMapper;
+import com.backend.service.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시물별 순 조회자 수 (HyperLogLog, 회원 id 또는 IP 해시 기준)
+// 같은 사람이 새로고침해도 늘지 않음 (조회수 views 는 그대로 요청마다 증가)
+// 메모리 스케치에 모았다가 바뀐 것만 주기적으로 board_view_sketch 에 덮어씀
+// 시작할 때 저장된 스케치를 읽어서 합침 (그 전에 들어온 조회도 레지스터 최대값으로 합쳐짐)
+@Component
+@RequiredArgsConstructor
+public class BoardUniqueViews {
+    private static final Logger logger = LoggerFactory.getLogger(BoardUniqueViews.class);
+    private static final int FLUSH_CHUNK = 500;
+
+    private final BoardViewSketchMapper mapper;
+
+    private final Map<Integer, Sketch> sketches = new ConcurrentHashMap<>();
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+    // 저장된 스케치를 읽기 전에 덮어쓰면 이전 조회자가 사라지므로 로드 후에만 저장
+    private volatile boolean loaded;
+
+    // 로그인했으면 회원 id, 아니면 IP (원문은 저장하지 않고 해시만 레지스터에 반영)
+    public static String viewer(Integer memberId, String remoteAddr) {
+        return memberId != null ? "m:" + memberId : "ip:" + remoteAddr;
+    }
+
+    public void viewed(Integer boardId, String viewer) {
+        long hash = HyperLogLog.hash(viewer);
+        Sketch sketch = sketches.computeIfAbsent(boardId, id -> new Sketch());
+        if (sketch.offer(hash)) {
+            dirty.add(boardId);
+        }
+    }
+
+    public long count(Integer boardId) {
+        Sketch sketch = sketches.get(boardId);
+        return sketch == null ? 0 : sketch.estimate();
+    }
+
+    public void overlay(List<Board> boardList) {
+        for (Board board : boardList) {
+            board.setUniqueViews((int) count(board.getId()));
+        }
+    }
+
+    // 게시물 삭제 시 (board 와 같은 트랜잭션)
+    // 메모리 스케치는 커밋 뒤에 지움 (커밋 전에 지우면 그 사이 조회가 다시 만들고, 롤백되면 조회자가 사라짐)
+    public void boardsDeleted(Collection<Integer> boardIds) {
+        mapper.deleteByBoardIds(boardIds);
+        AfterCommit.run(() -> {
+            for (Integer boardId : boardIds) {
+                sketches.remove(boardId);
+                dirty.remove(boardId);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<BoardViewSketch> rows = mapper.selectAll();
+        for (BoardViewSketch row : rows) {
+            try {
+                HyperLogLog stored = HyperLogLog.fromBytes(row.getSketch());
+                sketches.computeIfAbsent(row.getBoardId(), id -> new Sketch()).merge(stored);
+            } catch (RuntimeException e) {
+                logger.warn("unreadable view sketch for board {}", row.getBoardId(), e);
+            }
+        }
+        loaded = true;
+        logger.info("board view sketches loaded: {} boards", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${board.views.sketch-flush-millis:60000}")
+    public synchronized void flush() {
+        if (!loaded || dirty.isEmpty()) {
+            return;
+        }
+        List<BoardViewSketch> changed = new ArrayList<>();
+        for (Integer boardId : dirty) {
+            // 떼어낸 뒤 들어온 조회는 다시 dirty 가 되어 다음 주기에 저장
+            dirty.remove(boardId);
+            Sketch sketch = sketches.get(boardId);
+            if (sketch != null) {
+                changed.add(new BoardViewSketch(boardId, sketch.toBytes()));
+            }
+        }
+        for (int from = 0; from < changed.size(); from += FLUSH_CHUNK) {
+            int to = Math.min(from + FLUSH_CHUNK, changed.size());
+            List<BoardViewSketch> chunk = changed.subList(from, to);
+            try {
+                mapper.upsert(chunk);
+            } catch (RuntimeException e) {
+                logger.warn("view sketch flush failed for {} boards, writing one by one", chunk.size(), e);
+                if (!upsertEach(chunk)) {
+                    changed.subList(to, changed.size()).forEach(row -> dirty.add(row.getBoardId()));
+                    return;
+                }
+            }
+        }
+    }
+
+    // 삭제된 게시물(FK 위반)의 스케치는 버리고 나머지는 저장
+    // DB 에 못 붙는 등 다른 이유로 실패하면 남은 것까지 다음 주기로 미루고 false
+    private boolean upsertEach(List<BoardViewSketch> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            BoardViewSketch row = rows.get(i);
+            try {
+                mapper.upsert(List.of(row));
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("view sketch for missing board {} dropped", row.getBoardId());
+                sketches.remove(row.getBoardId());
+            } catch (RuntimeException e) {
+                logger.warn("view sketch flush failed, {} boards retried later", rows.size() - i, e);
+                rows.subList(i, rows.size()).forEach(rest -> dirty.add(rest.getBoardId()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 추정값은 바뀔 때만 다시 계산 (목록마다 레지스터 1024 개를 훑지 않도록)
+    private static class Sketch {
+        private final HyperLogLog hll = new HyperLogLog();
+        private long estimate;
+        private boolean stale;
+
+        synchronized boolean offer(long hash) {
+            boolean changed = hll.offer(hash);
+            stale |= changed;
+            return changed;
+        }
+
+        synchronized void merge(HyperLogLog other) {
+            hll.merge(other);
+            stale = true;
+        }
+
+        synchronized long estimate() {
+            if (stale) {
+                estimate = hll.estimate();
+                stale = false;
+            }
+            return estimate;
+        }
+
+        synchronized byte[] toBytes() {
+            return hll.toBytes();
+        }
+    }
+}
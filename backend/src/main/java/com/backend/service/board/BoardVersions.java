@@ -0,0 +1,95 @@
+package com.backend.service.board;
+
+import com.backend.service.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 조건부 GET(ETag) 용 버전 번호
+// 게시물별 버전(상세 / 댓글)과 목록 전체 버전, 쓰기가 커밋된 뒤에 올림
+// 커밋 전에 올리면 그 사이 조회가 옛 내용에 새 ETag 를 붙여서 다음 쓰기까지 304 로 남음
+// 메모리 값이라 재시작하면 epoch 가 바뀌어 모든 ETag 가 새로 발급됨
+// app.cluster.enabled 면 다른 서버의 쓰기는 BoardClusterEvents 로 올리고, 놓친 경우를 위해 cache-ttl-seconds 마다 모든 ETag 가 바뀜
+//   (서버마다 epoch 가 달라 다른 서버로 간 재검증은 200, 틀린 304 는 없음)
+// 조회수는 ETag 에 넣지 않음 (반영 주기마다 바뀌면 재검증하는 화면이 거의 매번 200 을 받음)
+//   대신 board.views.etag-seconds 단위 시각을 목록 / 상세 ETag 에 넣어서 304 로 보여주는 조회수는 그만큼까지만 늦음
+@Component
+public class BoardVersions {
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong clock = new AtomicLong();
+    // 바뀐 적 있는 게시물만
+    private final Map<Integer, Long> boards = new ConcurrentHashMap<>();
+    private final AtomicLong list = new AtomicLong();
+    // 닉네임 변경처럼 여러 게시물에 걸친 변경
+    private final AtomicLong all = new AtomicLong();
+
+    @Value("${app.cluster.enabled:false}")
+    private boolean clustered;
+
+    @Value("${app.cluster.cache-ttl-seconds:30}")
+    private long clusterTtlSeconds;
+
+    @Value("${board.views.etag-seconds:300}")
+    private long viewsTtlSeconds;
+
+    public void boardChanged(Integer boardId) {
+        AfterCommit.run(() -> {
+            long version = clock.incrementAndGet();
+            boards.merge(boardId, version, Math::max);
+            list.accumulateAndGet(version, Math::max);
+        });
+    }
+
+    public void boardsChanged(Collection<Integer> boardIds) {
+        AfterCommit.run(() -> {
+            long version = clock.incrementAndGet();
+            for (Integer boardId : boardIds) {
+                boards.merge(boardId, version, Math::max);
+            }
+            list.accumulateAndGet(version, Math::max);
+        });
+    }
+
+    // 목록에만 보이는 값 (좋아요, 썸네일 사본)
+    public void listChanged() {
+        AfterCommit.run(() -> list.accumulateAndGet(clock.incrementAndGet(), Math::max));
+    }
+
+    public void allChanged() {
+        AfterCommit.run(() -> all.accumulateAndGet(clock.incrementAndGet(), Math::max));
+    }
+
+    // 상세 (memberId 별 좋아요 여부 포함)
+    public String detailTag(Integer boardId, Integer memberId) {
+        return STR."\"b\{boardId}-\{memberId}-\{epoch()}-\{board(boardId)}-v\{views()}\"";
+    }
+
+    public String commentsTag(Integer boardId) {
+        return STR."\"c\{boardId}-\{epoch()}-\{board(boardId)}\"";
+    }
+
+    public String listTag() {
+        return STR."\"l-\{epoch()}-\{Math.max(list.get(), all.get())}-v\{views()}\"";
+    }
+
+    // 클러스터면 cache-ttl-seconds 단위 시각을 붙임
+    private String epoch() {
+        if (!clustered) {
+            return epoch;
+        }
+        return STR."\{epoch}.\{System.currentTimeMillis() / 1000 / clusterTtlSeconds}";
+    }
+
+    // 조회수를 다시 보여줄 시각 단위
+    private long views() {
+        return System.currentTimeMillis() / 1000 / viewsTtlSeconds;
+    }
+
+    private long board(Integer boardId) {
+        return Math.max(boards.getOrDefault(boardId, 0L), all.get());
+    }
+}
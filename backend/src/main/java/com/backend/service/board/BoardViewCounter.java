@@ -0,0 +1,122 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.mapper.board.BoardMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수 write-behind 누적기
+// 상세 조회마다 UPDATE 하지 않고 게시물별 LongAdder 에 모았다가 주기적으로 한 번에 반영
+// 서버가 여러 대면 덧씌우는 값은 DB 값 + 이 서버의 대기분 (다른 서버의 조회는 그 서버가 반영한 뒤에 보임, 차이는 반영 주기 하나 이내)
+@Component
+@RequiredArgsConstructor
+public class BoardViewCounter {
+    private static final Logger logger = LoggerFactory.getLogger(BoardViewCounter.class);
+    private static final int FLUSH_CHUNK = 500;
+
+    private final BoardMapper mapper;
+
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 에 쓰는 중인 증가량 (그 사이 조회에서도 빠지지 않도록)
+    private volatile Map<Integer, Long> flushing = Map.of();
+
+    public void increment(Integer boardId) {
+        LongAdder adder = pending.computeIfAbsent(boardId, id -> new LongAdder());
+        adder.increment();
+        // flush 가 막 떼어낸 카운터에 더했으면 현재 카운터로 옮김
+        while (pending.get(boardId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved == 0) {
+                break;
+            }
+            adder = pending.computeIfAbsent(boardId, id -> new LongAdder());
+            adder.add(moved);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 증가량
+    // 카운터를 먼저, flushing 을 나중에 읽음: flush 는 flushing 에 넣은 뒤 카운터에서 빼므로 잠깐 두 번 셀 수는 있어도 빠지지는 않음
+    public long pending(Integer boardId) {
+        LongAdder adder = pending.get(boardId);
+        Long inFlight = flushing.get(boardId);
+        return (adder == null ? 0 : adder.sum()) + (inFlight == null ? 0 : inFlight);
+    }
+
+    // 저장된 조회수 + 반영 대기 중인 증가량
+    public void overlay(List<Board> boardList) {
+        for (Board board : boardList) {
+            long delta = pending(board.getId());
+            if (delta > 0) {
+                int views = board.getViews() == null ? 0 : board.getViews();
+                board.setViews((int) (views + delta));
+            }
+        }
+    }
+
+    // 게시물 삭제 시
+    public void discard(Integer boardId) {
+        pending.remove(boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.views.flush-millis:5000}")
+    public synchronized void flush() {
+        // 카운터에서 빼기 전에 flushing 에 먼저 넣음 (그 사이 조회에서 빠지지 않도록)
+        Map<Integer, Long> deltas = new ConcurrentHashMap<>();
+        flushing = deltas;
+        pending.forEach((boardId, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                deltas.put(boardId, count);
+                adder.add(-count);
+            }
+        });
+        // 비어있는 카운터 정리 (그 사이 더해진 값은 increment 쪽에서 옮김)
+        pending.forEach((boardId, adder) -> {
+            if (adder.sum() == 0) {
+                pending.remove(boardId, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            flushing = Map.of();
+            return;
+        }
+
+        List<Integer> boardIds = new ArrayList<>(deltas.keySet());
+        try {
+            for (int from = 0; from < boardIds.size(); from += FLUSH_CHUNK) {
+                Map<Integer, Long> chunk = new HashMap<>();
+                for (Integer boardId : boardIds.subList(from, Math.min(from + FLUSH_CHUNK, boardIds.size()))) {
+                    chunk.put(boardId, deltas.get(boardId));
+                }
+                mapper.incrementViews(chunk);
+                // 커밋된 묶음은 바로 빼서 DB 값과 두 번 더해지지 않게 함
+                chunk.keySet().forEach(deltas::remove);
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 만큼 카운터로 되돌려서 다음 주기에 다시 시도 (되돌린 뒤에 flushing 에서 뺌)
+            logger.warn("view count flush failed, {} boards retried later", deltas.size(), e);
+            deltas.forEach((boardId, count) -> {
+                pending.computeIfAbsent(boardId, id -> new LongAdder()).add(count);
+                deltas.remove(boardId);
+            });
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,162 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.mapper.board.BoardMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 홈 화면 위젯 (최신글 / 인기글 / 인기 사진 / 반려동물 정보) 스냅샷
+// 백그라운드에서 계산해 두고 요청은 메모리에서 바로 응답
+// 스냅샷의 Board 는 밖으로 내보내지 않고 요청마다 사본을 줌 (호출 쪽이 고쳐도 스냅샷은 그대로)
+// 조회수는 사본에 반영 대기 중인 증가량을 더함 (목록과 같은 값)
+@Service
+@RequiredArgsConstructor
+public class BoardWidgetService {
+    private static final Logger logger = LoggerFactory.getLogger(BoardWidgetService.class);
+
+    private final BoardMapper mapper;
+    private final BoardViewCounter viewCounter;
+
+    @Value("${image.src.prefix}")
+    private String srcPrefix;
+
+    // 쓰기가 몰려도 이 시간 안에는 한 번만 다시 계산
+    @Value("${board.widget.debounce-millis:2000}")
+    private long debounceMillis;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-widget-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public List<Board> getLatestBoards() {
+        return copies(current().latestBoards);
+    }
+
+    public List<Board> getPopularBoards() {
+        return copies(current().popularBoards);
+    }
+
+    public List<Map<String, Object>> getTopLikedImages() {
+        return current().topLikedImages;
+    }
+
+    public List<Map<String, Object>> getGuideBoards() {
+        return current().guideBoards;
+    }
+
+    // 게시물/좋아요/댓글 쓰기 후 호출
+    public void requestRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                refreshScheduled.set(false);
+                refresh();
+            }, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${board.widget.refresh-millis:60000}", initialDelayString = "${board.widget.refresh-millis:60000}")
+    public void refresh() {
+        try {
+            Snapshot next = build();
+            snapshot = next;
+        } catch (RuntimeException e) {
+            // 이전 스냅샷을 계속 사용
+            logger.warn("board widget snapshot refresh failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = build();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot build() {
+        return new Snapshot(
+                mapper.selectLatestBoards(),
+                mapper.selectPopularBoards(),
+                withImageUrl(mapper.selectTopLikedImages(), 640),
+                withImageUrl(mapper.selectGuideBoards(), 320));
+    }
+
+    private List<Board> copies(List<Board> rows) {
+        List<Board> result = new ArrayList<>(rows.size());
+        for (Board row : rows) {
+            result.add(copy(row));
+        }
+        viewCounter.overlay(result);
+        return result;
+    }
+
+    private static Board copy(Board row) {
+        return new Board(row.getId(), row.getTitle(), row.getContent(), row.getWriter(), row.getMemberId(),
+                row.getInserted(), row.getViews(), row.getUniqueViews(), row.getBoardType(),
+                row.getRepoterId(), row.getRepoterNickname(), row.getThumbnailUrl(), row.getFileName(),
+                row.getNumberOfReports(), row.getNumberOfImages(), row.getNumberOfComments(), row.getNumberOfLikes(),
+                row.getFileList() == null ? null : List.copyOf(row.getFileList()));
+    }
+
+    // wanted: 위젯에서 보여줄 폭 (사본이 있으면 그 URL)
+    private List<Map<String, Object>> withImageUrl(List<Map<String, Object>> rows, int wanted) {
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> copy = new HashMap<>(row);
+            String imageUrl = (String) row.get("imageUrl");
+            Integer id = (Integer) row.get("id");
+            copy.remove("imageHash");
+            copy.remove("imageWidths");
+            copy.put("imageUrl", BoardBlobStore.url(srcPrefix, id, imageUrl, (String) row.get("imageHash"), (String) row.get("imageWidths"), wanted));
+            result.add(Collections.unmodifiableMap(copy));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static class Snapshot {
+        final List<Board> latestBoards;
+        final List<Board> popularBoards;
+        final List<Map<String, Object>> topLikedImages;
+        final List<Map<String, Object>> guideBoards;
+
+        Snapshot(List<Board> latestBoards, List<Board> popularBoards,
+                 List<Map<String, Object>> topLikedImages, List<Map<String, Object>> guideBoards) {
+            this.latestBoards = List.copyOf(latestBoards);
+            this.popularBoards = List.copyOf(popularBoards);
+            this.topLikedImages = topLikedImages;
+            this.guideBoards = guideBoards;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상세 캐시 항목: 잘 안 바뀌는 부분 (수정/삭제/댓글 쓰기 때 무효화)
+// 조회수는 캐시에 들어온 뒤 늘어난 만큼만 따로 셈
+class CachedBoard {
+    private final Integer id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime inserted;
+    private final String writer;
+    private final Integer memberId;
+    private final String boardType;
+    private final List<FileRef> files;
+    private final List<BoardComment> comments;
+    private final boolean hasMoreComments;
+
+    // 로드 시점의 조회수 (DB + 반영 대기)
+    private final long baseViews;
+    private final LongAdder viewsSinceLoad = new LongAdder();
+
+    CachedBoard(Board board, List<FileRef> files, List<BoardComment> comments, boolean hasMoreComments, long baseViews) {
+        this.id = board.getId();
+        this.title = board.getTitle();
+        this.content = board.getContent();
+        this.inserted = board.getInserted();
+        this.writer = board.getWriter();
+        this.memberId = board.getMemberId();
+        this.boardType = board.getBoardType();
+        this.files = List.copyOf(files);
+        this.comments = List.copyOf(comments);
+        this.hasMoreComments = hasMoreComments;
+        this.baseViews = baseViews;
+    }
+
+    void viewed() {
+        viewsSinceLoad.increment();
+    }
+
+    // 요청마다 새 Board (응답 쪽에서 값을 바꿔도 캐시는 그대로)
+    Board toBoard(String srcPrefix) {
+        Board board = new Board();
+        board.setId(id);
+        board.setTitle(title);
+        board.setContent(content);
+        board.setInserted(inserted);
+        board.setWriter(writer);
+        board.setMemberId(memberId);
+        board.setBoardType(boardType);
+        board.setViews((int) (baseViews + viewsSinceLoad.sum()));
+        board.setFileList(files.stream()
+                .map(file -> new BoardFile(file.name(), BoardBlobStore.url(srcPrefix, id, file.name(), file.hash())))
+                .toList());
+        return board;
+    }
+
+    List<BoardComment> comments() {
+        return comments;
+    }
+
+    boolean hasMoreComments() {
+        return hasMoreComments;
+    }
+
+    // 대략적인 메모리 사용량 (문자열은 UTF-16 기준)
+    int weight() {
+        long bytes = 128 + chars(title) + chars(content) + chars(writer) + chars(boardType);
+        for (FileRef file : files) {
+            bytes += 64 + chars(file.name()) + chars(file.hash());
+        }
+        for (BoardComment comment : comments) {
+            bytes += 96 + chars(comment.getBoardComment()) + chars(comment.getWriter());
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    // hash: board_blob 본문 (예전 방식 파일은 null)
+    record FileRef(String name, String hash) {
+    }
+}
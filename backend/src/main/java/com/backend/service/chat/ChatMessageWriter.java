@@ -0,0 +1,191 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.MessageMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지 write-behind 저장
+// STOMP 처리 스레드는 큐에 넣기만 하고, 전용 스레드가 batch-size 개가 모이거나 linger-millis 가 지나면 한 번에 INSERT
+// 큐가 차면 offer-timeout-millis 만큼 기다리고 (보내는 쪽이 느려짐), 그래도 자리가 없으면 호출 스레드에서 바로 저장
+//   이때는 큐에 남은 더 오래된 메시지보다 먼저 저장되어 id 순서가 보낸 순서와 어긋날 수 있음
+//   (대화 기록은 id 순으로 읽으므로 과부하 때만 몇 개가 앞뒤로 바뀌어 보임, timestamp 는 받은 시각 그대로)
+// 묶음 INSERT 가 제약 조건 위반(없는 회원 id 등)으로 실패하면 한 행씩 다시 써서 그 행만 버림
+// 종료 시 큐에 남은 메시지를 모두 저장한 뒤 끝남
+// 저장하면서 메시지 객체에 id 를 채움 (커밋 전에 채우므로 DB 에 보이는 메시지는 id 가 있음, RecentChatMessages 가 이에 기댐)
+// 지표: chat.write.queue.size, chat.write.messages(result), chat.write.overflow, chat.write.batch.size, chat.write.flush
+@Component
+public class ChatMessageWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ChatMessageWriter.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_MILLIS = 1000;
+
+    private final MessageMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final RecentChatMessages recentMessages;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter failed;
+    private final Counter overflow;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+
+    public ChatMessageWriter(MessageMapper mapper,
+                             TransactionTemplate transactionTemplate,
+                             RecentChatMessages recentMessages,
+                             MeterRegistry registry,
+                             @Value("${chat.write.queue-size:10000}") int queueSize,
+                             @Value("${chat.write.batch-size:200}") int batchSize,
+                             @Value("${chat.write.linger-millis:50}") long lingerMillis,
+                             @Value("${chat.write.offer-timeout-millis:100}") long offerTimeoutMillis) {
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.recentMessages = recentMessages;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        registry.gauge("chat.write.queue.size", queue, Collection::size);
+        this.written = registry.counter("chat.write.messages", "result", "written");
+        this.failed = registry.counter("chat.write.messages", "result", "failed");
+        this.overflow = registry.counter("chat.write.overflow");
+        this.batchSizes = registry.summary("chat.write.batch.size");
+        this.flushTimer = registry.timer("chat.write.flush");
+        this.thread = new Thread(this::run, "chat-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public void accept(ChatMessage message) {
+        try {
+            if (running && queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 큐가 꽉 찼거나 종료 중 -> 유실 대신 직접 저장
+        overflow.increment();
+        write(List.of(message));
+    }
+
+    private void run() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중에는 남은 것을 바로 씀
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ChatMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> insert(batch)));
+                written.increment(batch.size());
+                batchSizes.record(batch.size());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 다시 해도 같으므로 재시도하지 않음
+                batch.forEach(message -> message.setId(null));
+                if (batch.size() > 1) {
+                    logger.warn("chat message batch rejected, writing {} messages one by one", batch.size(), e);
+                    for (ChatMessage message : batch) {
+                        write(List.of(message));
+                    }
+                } else {
+                    dropped(batch, e);
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 롤백됐으므로 채운 id 는 무효
+                batch.forEach(message -> message.setId(null));
+                if (attempt >= MAX_ATTEMPTS) {
+                    dropped(batch, e);
+                    return;
+                }
+                logger.warn("chat message write failed (attempt {}), retrying", attempt, e);
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void dropped(List<ChatMessage> batch, RuntimeException e) {
+        failed.increment(batch.size());
+        logger.error("chat message write failed, {} messages dropped", batch.size(), e);
+        // 방송은 됐지만 기록에는 없는 메시지 (최근 메시지 버퍼에서도 뺌)
+        recentMessages.discard(batch);
+    }
+
+    // 여러 행 INSERT 의 자동 증가 값은 연속 (innodb_autoinc_lock_mode 0/1, auto_increment_increment 1)
+    // LAST_INSERT_ID() 는 첫 행 id
+    private void insert(List<ChatMessage> batch) {
+        mapper.insertMessages(batch);
+        int firstId = mapper.selectLastInsertId();
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).setId(firstId + i);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(30));
+        // 시간 안에 못 끝냈으면 남은 것을 여기서 씀
+        List<ChatMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            write(rest.subList(from, Math.min(from + batchSize, rest.size())));
+        }
+    }
+}
@@ -8,21 +8,49 @@ import java.util.List;
 
 @Service
 public class MessageService {
+	// chat_message.content (TEXT, utf8mb4 최대 4바이트) 에 들어가는 길이보다 작게
+	private static final int MAX_CONTENT_LENGTH = 10000;
+	// sender_nick_name / recipient_nick_name (VARCHAR(255))
+	private static final int MAX_NICKNAME_LENGTH = 255;
+
 	private final MessageMapper messageMapper;
+	private final RecentChatMessages recentMessages;
 
-	public MessageService(MessageMapper messageMapper) {
+	public MessageService(MessageMapper messageMapper, RecentChatMessages recentMessages) {
 		this.messageMapper = messageMapper; // 메시지 매퍼 초기화
+		this.recentMessages = recentMessages;
 	}
 
-	public void saveMessage(ChatMessage message) {
-		messageMapper.insertMessage(message); // 메시지 저장
+	// 모아서 저장하므로 잘못된 메시지는 받을 때 거름 (저장에서 실패하면 같은 묶음의 다른 메시지까지 늦어짐)
+	public boolean validate(ChatMessage message) {
+		if (message == null || message.getSenderId() == null || message.getRecipientId() == null) {
+			return false;
+		}
+		String content = message.getContent();
+		if (content == null || content.isBlank() || content.length() > MAX_CONTENT_LENGTH) {
+			return false;
+		}
+		return length(message.getSenderNickName()) <= MAX_NICKNAME_LENGTH
+				&& length(message.getRecipientNickName()) <= MAX_NICKNAME_LENGTH;
 	}
 
 	public List<ChatMessage> getMessagesForUser(Integer recipientId) {
 		return messageMapper.findMessagesByRecipient(recipientId); // 수신자에 대한 메시지 반환
 	}
 
-	public List<ChatMessage> getMessagesForRoom(Integer senderId, Integer recipientId) {
-		return messageMapper.findMessagesByRoom(senderId, recipientId); // 채팅방에 대한 메시지 반환
+	// 채팅방 메시지 최신순 한 페이지 (before: 이 id 보다 앞, 없으면 가장 최근부터)
+	// 최근 메시지 버퍼에서 먼저 찾고, 버퍼를 지나 스크롤하면 DB
+	public List<ChatMessage> getMessagesForRoom(Integer senderId, Integer recipientId, Integer before, Integer limit) {
+		String conversationKey = RecentChatMessages.conversationKey(senderId, recipientId);
+		List<ChatMessage> page = recentMessages.page(conversationKey, before, limit,
+				count -> messageMapper.selectRoomPage(conversationKey, null, count));
+		if (page != null) {
+			return page;
+		}
+		return messageMapper.selectRoomPage(conversationKey, before, limit);
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
 	}
 }
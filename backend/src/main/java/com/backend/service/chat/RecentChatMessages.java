@@ -0,0 +1,195 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// 채팅방별 최근 메시지 링 버퍼 (방마다 per-room 개, 오래된 것부터 밀려남)
+// 방송할 때와 DB 에서 처음 읽을 때 채우고, 첫 페이지와 버퍼 안쪽의 이전 페이지는 DB 없이 응답
+// 방 전체는 Caffeine 으로 관리: 메시지 크기 합이 max-bytes 를 넘거나 idle-minutes 동안 안 쓰면 제거
+// 방송만으로 생긴 방은 그 앞 메시지를 모르므로 DB 에서 한 번 읽어서 합칠 때까지 limit 만큼 찬 페이지만 씀
+// 저장에 실패한 메시지는 ChatMessageWriter 가 discard 로 빼냄 (id 없이 남아 있으면 DB 에 없는 메시지가 계속 보임)
+// chat.broker.mode=relay 면 다른 서버가 받은 메시지가 이 버퍼에 안 들어오므로 쓰지 않음 (항상 DB)
+@Component
+public class RecentChatMessages {
+    private final Cache<String, Room> rooms;
+    private final int perRoom;
+    private final boolean enabled;
+
+    public RecentChatMessages(MeterRegistry registry,
+                              @Value("${chat.broker.mode:simple}") String brokerMode,
+                              @Value("${chat.recent.per-room:50}") int perRoom,
+                              @Value("${chat.recent.max-bytes:33554432}") long maxBytes,
+                              @Value("${chat.recent.idle-minutes:30}") long idleMinutes) {
+        this.perRoom = perRoom;
+        this.enabled = brokerMode.equals("simple");
+        this.rooms = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Room room) -> room.bytes())
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, rooms, "chat.recent");
+    }
+
+    public static String conversationKey(Integer memberId1, Integer memberId2) {
+        return Math.min(memberId1, memberId2) + "-" + Math.max(memberId1, memberId2);
+    }
+
+    // 방송한 메시지
+    public void broadcast(ChatMessage message) {
+        if (!enabled) {
+            return;
+        }
+        String key = conversationKey(message.getSenderId(), message.getRecipientId());
+        Room room = rooms.get(key, k -> new Room());
+        room.append(message);
+        // 크기가 바뀌었으므로 다시 넣어서 무게 갱신
+        rooms.put(key, room);
+    }
+
+    // 저장하지 못하고 버린 메시지
+    public void discard(List<ChatMessage> messages) {
+        if (!enabled) {
+            return;
+        }
+        for (ChatMessage message : messages) {
+            String key = conversationKey(message.getSenderId(), message.getRecipientId());
+            Room room = rooms.getIfPresent(key);
+            if (room != null && room.remove(message)) {
+                rooms.put(key, room);
+            }
+        }
+    }
+
+    // 최신순 한 페이지, before 가 없으면 가장 최근부터
+    // loader: 개수 -> DB 에서 최신순으로 (버퍼가 비었거나 모자랄 때 첫 페이지만)
+    // 버퍼로 못 채우는 이전 페이지는 null (호출 쪽에서 DB)
+    public List<ChatMessage> page(String key, Integer before, int limit, IntFunction<List<ChatMessage>> loader) {
+        if (!enabled) {
+            return before == null ? loader.apply(limit) : null;
+        }
+        Room room = rooms.getIfPresent(key);
+        if (room != null) {
+            List<ChatMessage> page = room.page(before, limit);
+            if (page != null) {
+                return page;
+            }
+        }
+        if (before != null) {
+            return null;
+        }
+
+        int loadLimit = Math.max(limit, perRoom);
+        List<ChatMessage> loaded = loader.apply(loadLimit);
+        room = rooms.get(key, k -> new Room());
+        room.seed(loaded, loaded.size() < loadLimit);
+        rooms.put(key, room);
+        List<ChatMessage> page = room.page(null, limit);
+        // 버퍼보다 큰 limit 는 DB 결과 그대로
+        return page != null ? page : loaded.subList(0, Math.min(limit, loaded.size()));
+    }
+
+    private class Room {
+        // 오래된 것 -> 최신
+        private final ArrayDeque<ChatMessage> messages = new ArrayDeque<>();
+        // 버퍼 앞에 더 오래된 메시지가 없는지 (DB 에서 대화 전체를 읽었고 밀려난 것이 없음)
+        private boolean whole;
+        private int bytes = 64;
+
+        synchronized void append(ChatMessage message) {
+            messages.addLast(message);
+            bytes += weight(message);
+            trim();
+        }
+
+        // 같은 내용의 다른 메시지와 구분하도록 객체로 찾음
+        synchronized boolean remove(ChatMessage message) {
+            boolean removed = messages.removeIf(buffered -> buffered == message);
+            if (removed) {
+                bytes -= weight(message);
+            }
+            return removed;
+        }
+
+        // loaded: DB 최신순
+        // 읽는 동안 방송된 메시지는 아직 저장 전(id 없음)이거나 읽은 것보다 뒤 id 면 남기고 나머지는 DB 쪽과 중복
+        synchronized void seed(List<ChatMessage> loaded, boolean loadedAll) {
+            int maxLoadedId = loaded.isEmpty() ? 0 : loaded.get(0).getId();
+            List<ChatMessage> newer = new ArrayList<>();
+            for (ChatMessage message : messages) {
+                Integer id = message.getId();
+                if (id == null || id > maxLoadedId) {
+                    newer.add(message);
+                }
+            }
+            messages.clear();
+            bytes = 64;
+            for (int i = loaded.size() - 1; i >= 0; i--) {
+                messages.addLast(loaded.get(i));
+                bytes += weight(loaded.get(i));
+            }
+            for (ChatMessage message : newer) {
+                messages.addLast(message);
+                bytes += weight(message);
+            }
+            whole = loadedAll;
+            trim();
+        }
+
+        // 최신순, 버퍼로 답할 수 없으면 null
+        synchronized List<ChatMessage> page(Integer before, int limit) {
+            List<ChatMessage> page = new ArrayList<>(limit);
+            Iterator<ChatMessage> newestFirst = messages.descendingIterator();
+            boolean found = before == null;
+            while (newestFirst.hasNext() && page.size() < limit) {
+                ChatMessage message = newestFirst.next();
+                if (!found) {
+                    Integer id = message.getId();
+                    found = id != null && id < before;
+                    if (!found) {
+                        continue;
+                    }
+                }
+                page.add(message);
+            }
+            // 방송만으로 채워진 방도 버퍼 안에서는 빠짐없이 이어져 있음
+            if (page.size() == limit) {
+                return page;
+            }
+            // 모자라면 버퍼 앞이 대화 시작일 때만 답할 수 있음
+            return whole ? page : null;
+        }
+
+        synchronized int bytes() {
+            return bytes;
+        }
+
+        private void trim() {
+            while (messages.size() > perRoom) {
+                bytes -= weight(messages.removeFirst());
+                whole = false;
+            }
+        }
+    }
+
+    // 문자열(UTF-16) + 객체 오버헤드 대략
+    private static int weight(ChatMessage message) {
+        return 160 + 2 * (length(message.getContent()) + length(message.getSenderNickName()) + length(message.getRecipientNickName()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
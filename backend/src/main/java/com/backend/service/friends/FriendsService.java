@@ -14,15 +14,18 @@ import java.util.List;
 public class FriendsService {
 
 	private final FriendsMapper friendsMapper;
+	private final PresenceService presenceService;
 	private static final Logger logger = LoggerFactory.getLogger(FriendsService.class);
 
-	public FriendsService(FriendsMapper friendsMapper) {
+	public FriendsService(FriendsMapper friendsMapper, PresenceService presenceService) {
 		this.friendsMapper = friendsMapper;
+		this.presenceService = presenceService;
 	}
 
 	public List<FriendDto> getFriendsWithIds(Integer memberId) {
 		logger.info("Fetching friends with IDs for member ID: {}", memberId);
 		List<FriendDto> friends = friendsMapper.selectFriendsById(memberId);
+		presenceService.overlay(friends);
 		logger.info("Fetched friends: {}", friends);
 		return friends;
 	}
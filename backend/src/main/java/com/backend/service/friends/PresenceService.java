@@ -0,0 +1,257 @@
+package com.backend.service.friends;
+
+import com.backend.domain.friends.FriendDto;
+import com.backend.domain.member.LoginEntity;
+import com.backend.domain.member.Member;
+import com.backend.mapper.friends.FriendsMapper;
+import com.backend.mapper.member.LoginCheckMapper;
+import com.backend.mapper.member.MemberMapper;
+import com.backend.security.StompAuthChannelInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 접속 상태 (회원 id -> 열린 WebSocket 세션 수)
+// CONNECT 의 access 토큰으로 회원이 확인된 세션만 셈 (StompAuthChannelInterceptor, 친구 목록 쪽 연결)
+// 세션이 0 -> 1 이 되거나 1 -> 0 이 될 때만 친구들에게 /topic/presence/{친구 id} 로 알림
+// 끊김 이벤트를 못 받은 세션은 heartbeat 가 timeout-millis 동안 없으면 정리
+// login_check 에는 바뀐 회원만 모아서 flush-millis 마다 한 번에 저장 (그 사이 여러 번 바뀌면 마지막 상태만)
+// chat.broker.mode=relay 면 서버마다 자기 세션만 알고 있으므로 다른 서버의 접속은 login_check 에서 읽음
+//   (켜져 있는 회원은 flush 때마다 다시 써서 시각을 갱신하고, stale-millis 보다 오래된 true 는 접속 안 한 것으로 봄)
+@Component
+public class PresenceService {
+    private static final Logger logger = LoggerFactory.getLogger(PresenceService.class);
+    private static final int FLUSH_CHUNK = 500;
+
+    private final FriendsMapper friendsMapper;
+    private final MemberMapper memberMapper;
+    private final LoginCheckMapper loginCheckMapper;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final boolean relay;
+    private final long timeoutMillis;
+    private final long staleMillis;
+
+    // 세션 id -> 세션
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    // 회원 id -> 접속 중인 회원 (세션이 없으면 제거)
+    private final Map<Integer, Presence> members = new ConcurrentHashMap<>();
+    // 저장할 회원 id -> 닉네임 (login_check 는 닉네임 기준)
+    private final Map<Integer, String> dirty = new ConcurrentHashMap<>();
+
+    public PresenceService(FriendsMapper friendsMapper,
+                           MemberMapper memberMapper,
+                           LoginCheckMapper loginCheckMapper,
+                           SimpMessageSendingOperations messagingTemplate,
+                           MeterRegistry registry,
+                           @Value("${chat.broker.mode:simple}") String brokerMode,
+                           @Value("${presence.timeout-millis:90000}") long timeoutMillis,
+                           @Value("${presence.stale-millis:180000}") long staleMillis) {
+        this.friendsMapper = friendsMapper;
+        this.memberMapper = memberMapper;
+        this.loginCheckMapper = loginCheckMapper;
+        this.messagingTemplate = messagingTemplate;
+        this.relay = brokerMode.equals("relay");
+        this.timeoutMillis = timeoutMillis;
+        this.staleMillis = staleMillis;
+        registry.gauge("presence.online", members, Map::size);
+        registry.gauge("presence.sessions", sessions, Map::size);
+    }
+
+    public boolean isOnline(Integer memberId) {
+        return members.containsKey(memberId);
+    }
+
+    // 친구 목록의 online 을 채움
+    public void overlay(List<FriendDto> friends) {
+        List<String> elsewhere = new ArrayList<>();
+        for (FriendDto friend : friends) {
+            boolean online = isOnline(friend.getId());
+            friend.setOnline(online);
+            if (!online) {
+                elsewhere.add(friend.getNickname());
+            }
+        }
+        if (!relay || elsewhere.isEmpty()) {
+            return;
+        }
+        Set<String> online = new HashSet<>(loginCheckMapper.selectOnlineNicknames(elsewhere, staleMillis / 1000));
+        for (FriendDto friend : friends) {
+            if (online.contains(friend.getNickname())) {
+                friend.setOnline(true);
+            }
+        }
+    }
+
+    @EventListener
+    public void connected(SessionConnectEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (!(event.getUser() instanceof StompAuthChannelInterceptor.MemberPrincipal principal) || sessionId == null) {
+            return;
+        }
+        Integer memberId = principal.memberId();
+        // 닉네임은 처음 접속할 때만 읽음 (compute 안에서 DB 를 부르지 않도록 밖에서)
+        Presence current = members.get(memberId);
+        String nickname = current != null ? current.nickname : nicknameOf(memberId);
+        if (nickname == null) {
+            return;
+        }
+        sessions.put(sessionId, new Session(memberId, System.currentTimeMillis()));
+        boolean[] cameOnline = new boolean[1];
+        members.compute(memberId, (id, presence) -> {
+            if (presence == null) {
+                cameOnline[0] = true;
+                return new Presence(nickname, 1);
+            }
+            return new Presence(presence.nickname, presence.sessions + 1);
+        });
+        if (cameOnline[0]) {
+            changed(memberId, nickname, true);
+        }
+    }
+
+    @EventListener
+    public void disconnected(SessionDisconnectEvent event) {
+        closed(event.getSessionId());
+    }
+
+    // 클라이언트가 주기적으로 /app/presence/heartbeat 로 보냄
+    public void heartbeat(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeen = System.currentTimeMillis();
+        }
+    }
+
+    // 끊김 이벤트 없이 사라진 세션 (네트워크 단절, 탭 강제 종료 등)
+    @Scheduled(fixedDelayString = "${presence.sweep-millis:30000}")
+    public void sweep() {
+        long deadline = System.currentTimeMillis() - timeoutMillis;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (entry.getValue().lastSeen < deadline) {
+                closed(entry.getKey());
+            }
+        }
+    }
+
+    // 이전 실행에서 남은 true 정리 (relay 면 다른 서버의 접속일 수 있으므로 stale-millis 로 걸러서 읽기만 함)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!relay) {
+            int reset = loginCheckMapper.resetLoginChecks();
+            logger.info("login_check reset: {} members", reset);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${presence.flush-millis:10000}")
+    public synchronized void flush() {
+        Map<Integer, LoginEntity> changed = new HashMap<>();
+        for (Map.Entry<Integer, String> entry : dirty.entrySet()) {
+            // 떼어낸 뒤 바뀐 회원은 다시 dirty 가 되어 다음 주기에 저장
+            dirty.remove(entry.getKey(), entry.getValue());
+            changed.put(entry.getKey(), loginEntity(entry.getValue(), isOnline(entry.getKey())));
+        }
+        if (relay) {
+            members.forEach((memberId, presence) -> changed.putIfAbsent(memberId, loginEntity(presence.nickname, true)));
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<LoginEntity> rows = new ArrayList<>(changed.values());
+        try {
+            for (int from = 0; from < rows.size(); from += FLUSH_CHUNK) {
+                loginCheckMapper.upsertLoginChecks(rows.subList(from, Math.min(from + FLUSH_CHUNK, rows.size())));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("login_check flush failed, {} members retried later", rows.size(), e);
+            changed.forEach((memberId, row) -> dirty.putIfAbsent(memberId, row.getMemberNickname()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 이 서버의 세션은 모두 끊기므로 꺼진 것으로 저장
+        members.forEach((memberId, presence) -> dirty.put(memberId, presence.nickname));
+        members.clear();
+        sessions.clear();
+        flush();
+    }
+
+    private void closed(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        String[] wentOffline = new String[1];
+        members.computeIfPresent(session.memberId, (id, presence) -> {
+            if (presence.sessions <= 1) {
+                wentOffline[0] = presence.nickname;
+                return null;
+            }
+            return new Presence(presence.nickname, presence.sessions - 1);
+        });
+        if (wentOffline[0] != null) {
+            changed(session.memberId, wentOffline[0], false);
+        }
+    }
+
+    private void changed(Integer memberId, String nickname, boolean online) {
+        dirty.put(memberId, nickname);
+        List<Integer> followers;
+        try {
+            followers = friendsMapper.selectMemberIdsByFriendId(memberId);
+        } catch (RuntimeException e) {
+            logger.warn("presence push skipped for member {}", memberId, e);
+            return;
+        }
+        Map<String, Object> payload = Map.of("memberId", memberId, "online", online);
+        for (Integer follower : followers) {
+            // 꺼져 있는 친구는 다음에 목록을 읽을 때 받음 (relay 면 다른 서버에 있을 수 있으므로 모두 보냄)
+            if (relay || isOnline(follower)) {
+                messagingTemplate.convertAndSend("/topic/presence/" + follower, payload);
+            }
+        }
+    }
+
+    private String nicknameOf(Integer memberId) {
+        Member member = memberMapper.selectByMemberId(memberId);
+        return member == null ? null : member.getNickname();
+    }
+
+    private static LoginEntity loginEntity(String nickname, boolean online) {
+        LoginEntity row = new LoginEntity();
+        row.setMemberNickname(nickname);
+        row.setLoginCheck(online);
+        return row;
+    }
+
+    private record Presence(String nickname, int sessions) {
+    }
+
+    private static class Session {
+        private final Integer memberId;
+        private volatile long lastSeen;
+
+        Session(Integer memberId, long lastSeen) {
+            this.memberId = memberId;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
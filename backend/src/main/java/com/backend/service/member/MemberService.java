@@ -11,7 +11,15 @@ import com.backend.mapper.diary.DiaryBoardMapper;
 import com.backend.mapper.member.MemberMapper;
 import com.backend.mapper.member.ProfileMapper;
 import com.backend.mapper.member.RefreshMapper;
+import com.backend.service.board.BoardClusterEvents;
+import com.backend.service.board.BoardDetailCache;
+import com.backend.service.board.BoardVersions;
+import com.backend.service.board.BoardLikeEngine;
+import com.backend.service.board.BoardSearchCache;
+import com.backend.service.board.BoardSearchIndex;
 import com.backend.service.board.BoardService;
+import com.backend.service.board.BoardStatsService;
+import com.backend.service.board.BoardSuggestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -41,6 +49,14 @@ public class MemberService {
     private final BoardService boardService;
     private final BoardMapper boardMapper;
     private final BoardCommentMapper boardCommentMapper;
+    private final BoardStatsService boardStatsService;
+    private final BoardLikeEngine boardLikeEngine;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardVersions boardVersions;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardSuggestService boardSuggestService;
+    private final BoardSearchCache boardSearchCache;
+    private final BoardClusterEvents boardClusterEvents;
 
     // s3 설정
     @Value("${aws.s3.bucket.name}")
@@ -54,6 +70,8 @@ public class MemberService {
         member.setPassword(passwordEncoder.encode(member.getPassword()));
         member.setRole(Role.USER);
         memberMapper.signup(member);
+        boardSuggestService.memberSaved(member.getId(), member.getNickname());
+        boardClusterEvents.memberAdded(member.getId(), member.getNickname());
     }
 
     public Member getByUsername(String username) {
@@ -84,7 +102,18 @@ public class MemberService {
         if (member.getPassword() != null && !member.getPassword().isEmpty()) {
             member.setPassword(passwordEncoder.encode(member.getPassword()));
         }
-        return memberMapper.update(member) > 0;
+        boolean updated = memberMapper.update(member) > 0;
+        if (updated) {
+            // 검색 색인의 작성자 닉네임 갱신
+            boardSearchIndex.renameWriter(id, member.getNickname());
+            boardSuggestService.memberSaved(id, member.getNickname());
+            boardSearchCache.invalidateAll();
+            // 게시물 / 댓글 작성자 닉네임이 캐시에 들어 있음
+            boardDetailCache.invalidateAll();
+            boardVersions.allChanged();
+            boardClusterEvents.memberRenamed(id, member.getNickname());
+        }
+        return updated;
     }
 
     // MemberPage
@@ -147,18 +176,26 @@ public class MemberService {
         List<Board> boardList = boardMapper.selectByMemberId(id);
 
         // 각 게시물 지우기
-        boardList.forEach(board -> boardService.delete(board.getId()));
+        boardService.deleteAll(boardList.stream().map(Board::getId).toList());
+
+        // 아직 반영 안 된 좋아요 정리 후 다른 게시물의 좋아요/댓글 수 차감
+        boardLikeEngine.removeMember(id);
+        boardStatsService.memberDeleting(id);
 
         // 좋아요 지우기
         boardMapper.deleteLikeByMemberId(id);
 
         // 댓글 지우기
         boardCommentMapper.deleteByMemberId(id);
+        boardDetailCache.invalidateAll();
+        boardVersions.allChanged();
 
 
         List<DiaryBoard> diaryBoardList = diaryBoardMapper.selectByMemberId(id);
         refreshMapper.deleteByUsername(getById(id).getUsername());
         memberMapper.deleteById(id);
+        boardSuggestService.memberRemoved(id);
+        boardClusterEvents.memberRemoved(id);
     }
 
     public boolean validatePassword(Integer id, String password) {
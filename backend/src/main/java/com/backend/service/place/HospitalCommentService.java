@@ -1,19 +1,27 @@
 package com.backend.service.place;
 
 import com.backend.domain.place.HospitalComment;
+import com.backend.export.CursorJsonWriter;
 import com.backend.mapper.place.HospitalCommentMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
 @RequiredArgsConstructor
 public class HospitalCommentService {
     final HospitalCommentMapper mapper;
+    final CursorJsonWriter cursorJsonWriter;
 
 
     public void add(HospitalComment hospitalComment, Authentication authentication) {
@@ -38,6 +46,26 @@ public class HospitalCommentService {
         return mapper.selectByHospitalId(hospitalId);
     }
 
+    // 댓글 id 기준 페이지 (before: 이 id 보다 앞, after: 이 id 보다 뒤, 둘 다 없으면 처음부터)
+    // 결과는 항상 id 오름차순, hasMore 는 읽은 방향으로 더 있는지
+    public Map<String, Object> page(Integer hospitalId, Integer before, Integer after, Integer limit) {
+        List<HospitalComment> comments = new ArrayList<>(mapper.selectPage(hospitalId, before, after, limit + 1));
+        boolean hasMore = comments.size() > limit;
+        if (hasMore) {
+            comments.remove(comments.size() - 1);
+        }
+        if (before != null && after == null) {
+            Collections.reverse(comments);
+        }
+        return Map.of("comments", comments, "hasMore", hasMore);
+    }
+
+    // 관리자 내보내기: 댓글 수와 상관없이 한 행씩 써서 메모리 사용량 일정
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void export(Integer hospitalId, OutputStream out) throws IOException {
+        cursorJsonWriter.write(out, () -> mapper.selectCursorByHospitalId(hospitalId));
+    }
+
     public void remove(HospitalComment hospitalComment) {
         mapper.deleteById(hospitalComment.getId());
     }
@@ -4,6 +4,7 @@ import com.backend.domain.place.Hospital;
 import com.backend.mapper.place.HospitalMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -11,6 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PlaceService {
     private final HospitalMapper mapper;
+    // hospital 은 앱에서 쓰지 않는 데이터라 서버 시작 시점을 버전으로 사용 (데이터를 다시 넣으면 재시작)
+    private final String version = Long.toString(System.currentTimeMillis(), 36);
+
+    // 트랜잭션 / 쿼리 없이 ETag 만
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String tag(Integer id) {
+        return STR."\"h\{id}-\{version}\"";
+    }
 
     public Hospital get(Integer id) {
         return mapper.selectById(id);
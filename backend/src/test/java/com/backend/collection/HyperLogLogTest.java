@@ -0,0 +1,109 @@
+package com.backend.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+// 추정 오차, sparse -> dense 전환, 합치기, 직렬화 형식 (board_view_sketch.sketch VARBINARY(769))
+class HyperLogLogTest {
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        for (int n : new int[]{10, 100, 1_000, 10_000, 100_000}) {
+            HyperLogLog sketch = sketch("v", 0, n);
+            // 적은 개수는 linear counting 이라 거의 정확, 나머지는 표준 오차(3.3%)의 3 배 안
+            double bound = n <= 100 ? 0.05 : 0.10;
+            assertThat((double) sketch.estimate()).as("n=%d", n).isCloseTo(n, within(n * bound + 1));
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeSketch() {
+        HyperLogLog sketch = sketch("v", 0, 1_000);
+        byte[] before = sketch.toBytes();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sketch.offer("v" + i)).isFalse();
+        }
+
+        assertThat(sketch.toBytes()).isEqualTo(before);
+    }
+
+    @Test
+    void switchesFromSparseToDense() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.toBytes()).containsExactly(1);
+
+        int n = 0;
+        long previous = 0;
+        while (sketch.toBytes()[0] == 1) {
+            // sparse 직렬화는 쌍마다 2 byte, dense 보다 커지기 전까지만
+            assertThat(sketch.toBytes().length).isLessThanOrEqualTo(769);
+            sketch.offer("v" + n++);
+            // 전환 전후로 추정값이 튀지 않음
+            assertThat(sketch.estimate()).isGreaterThanOrEqualTo(previous);
+            previous = sketch.estimate();
+        }
+        assertThat(sketch.toBytes()).hasSize(769);
+
+        // 메모리에서도 레지스터 절반을 넘으면 dense, 직렬화 크기는 그대로
+        for (int i = 0; i < 2_000; i++) {
+            sketch.offer("v" + n++);
+        }
+        assertThat(sketch.toBytes()).hasSize(769);
+        assertThat((double) sketch.estimate()).isCloseTo(n, within(n * 0.10));
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        // sparse + sparse, sparse + dense, dense + dense
+        int[][] sizes = {{50, 80}, {50, 5_000}, {5_000, 50}, {5_000, 8_000}};
+        for (int[] size : sizes) {
+            HyperLogLog left = sketch("a", 0, size[0]);
+            HyperLogLog right = sketch("a", size[0] / 2, size[0] / 2 + size[1]);
+            HyperLogLog union = sketch("a", 0, Math.max(size[0], size[0] / 2 + size[1]));
+
+            left.merge(right);
+
+            assertThat(left.toBytes()).as("%d + %d", size[0], size[1]).isEqualTo(union.toBytes());
+            assertThat(left.estimate()).isEqualTo(union.estimate());
+        }
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        // 빈 스케치, sparse, sparse 지만 dense 로 직렬화되는 크기, dense
+        for (int n : new int[]{0, 1, 100, 450, 100_000}) {
+            HyperLogLog sketch = sketch("v", 0, n);
+            byte[] bytes = sketch.toBytes();
+            assertThat(bytes.length).isLessThanOrEqualTo(769);
+
+            HyperLogLog read = HyperLogLog.fromBytes(bytes);
+
+            assertThat(read.estimate()).as("n=%d", n).isEqualTo(sketch.estimate());
+            assertThat(read.toBytes()).isEqualTo(bytes);
+            // 읽은 스케치에 계속 더할 수 있음
+            read.offer("new");
+            sketch.offer("new");
+            assertThat(read.estimate()).isEqualTo(sketch.estimate());
+        }
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{2, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketch(String prefix, int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.offer(prefix + i);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// tombstone 없는 삭제 뒤에도 probe 체인이 끊기지 않는지 (HashSet 과 비교)
+class IntHashSetTest {
+
+    @Test
+    void matchesHashSetAfterRandomAddsAndRemoves() {
+        Random random = new Random(11);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            // 좁은 범위라 충돌 / 삭제 후 당겨오기가 자주 일어남
+            int value = random.nextInt(2_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int value = -100; value < 1_900; value++) {
+            assertThat(set.contains(value)).as("%d", value).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @Test
+    void zeroIsStoredSeparately() {
+        IntHashSet set = new IntHashSet(1);
+
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        IntHashSet set = new IntHashSet(2);
+        for (int value = 1; value <= 10_000; value++) {
+            set.add(value * 1024);
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        assertThat(set.contains(5_000 * 1024)).isTrue();
+        assertThat(set.contains(5_000 * 1024 + 1)).isFalse();
+    }
+}
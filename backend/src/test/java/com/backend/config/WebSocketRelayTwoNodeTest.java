@@ -0,0 +1,302 @@
+package com.backend.config;
+
+import com.backend.controller.chat.ChatController;
+import com.backend.domain.chat.ChatMessage;
+import com.backend.security.JWTUtil;
+import com.backend.security.MemberIdResolver;
+import com.backend.security.StompAuthChannelInterceptor;
+import com.backend.service.board.BoardClusterEvents;
+import com.backend.service.board.BoardCountService;
+import com.backend.service.board.BoardDetailCache;
+import com.backend.service.board.BoardSearchCache;
+import com.backend.service.board.BoardSearchIndex;
+import com.backend.service.board.BoardSuggestService;
+import com.backend.service.board.BoardThumbnailResolver;
+import com.backend.service.board.BoardTrendingService;
+import com.backend.service.board.BoardVersions;
+import com.backend.service.board.BoardViewCounter;
+import com.backend.service.board.BoardWidgetService;
+import com.backend.service.chat.ChatMessageWriter;
+import com.backend.service.chat.MessageService;
+import com.backend.service.chat.RecentChatMessages;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketMessagingAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// chat.broker.mode=relay 로 서버 두 대를 띄우고 내장 Artemis 를 외부 브로커 대신 씀
+// A 에 보낸 채팅이 B 에 연결된 구독자에게 가는지, A 의 게시물 변경이 B 의 캐시를 비우는지 확인
+// 저장 / 최근 메시지 버퍼 / 게시물 캐시는 mock (DB 없이 WebSocket 과 브로커 중계만)
+class WebSocketRelayTwoNodeTest {
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static final List<WebSocketStompClient> clients = new ArrayList<>();
+
+    @BeforeAll
+    static void start() throws Exception {
+        int stompPort = freePort();
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort + "?protocols=STOMP;multicastPrefix=/topic/"));
+        broker.start();
+
+        nodeA = startNode(stompPort);
+        nodeB = startNode(stompPort);
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        clients.forEach(WebSocketStompClient::stop);
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    void messageSentToNodeAReachesSubscriberOnNodeB() throws Exception {
+        StompSession subscriber = connect(nodeB, null);
+        StompSession sender = connect(nodeA, "member-3");
+
+        // 브로커에 구독이 잡힌 뒤에 보내도록 RECEIPT 를 기다림
+        BlockingQueue<ChatMessage> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        subscriber.setAutoReceipt(true);
+        subscriber.subscribe("/topic/chatroom/3-7", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((ChatMessage) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        ChatMessage message = new ChatMessage();
+        message.setSenderId(3);
+        message.setRecipientId(7);
+        message.setContent("안녕");
+        message.setSenderNickName("멍멍");
+        message.setRecipientNickName("냥냥");
+        sender.send("/app/chat/3-7", message);
+
+        ChatMessage delivered = received.poll(10, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(delivered.getContent()).isEqualTo("안녕");
+        assertThat(delivered.getSenderId()).isEqualTo(3);
+        // 서버(A)가 받은 시각을 채워서 보냄
+        assertThat(delivered.getTimestamp()).isNotNull();
+    }
+
+    @Test
+    void boardSavedOnNodeAInvalidatesNodeB() throws Exception {
+        CountDownLatch invalidated = new CountDownLatch(1);
+        BoardDetailCache detailCacheB = nodeB.getBean(BoardDetailCache.class);
+        doAnswer(invocation -> {
+            invalidated.countDown();
+            return null;
+        }).when(detailCacheB).invalidateAll(List.of(11));
+
+        // 중계의 system 연결이 구독을 마치기 전에 보낸 이벤트는 사라지므로 받을 때까지 다시 보냄
+        BoardClusterEvents eventsA = nodeA.getBean(BoardClusterEvents.class);
+        for (int i = 0; i < 20 && invalidated.getCount() > 0; i++) {
+            eventsA.boardsSaved(List.of(11));
+            invalidated.await(500, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(invalidated.getCount()).isZero();
+        verify(nodeB.getBean(BoardSearchIndex.class), timeout(5000).atLeastOnce()).refresh(11);
+        // 보낸 서버는 자기 이벤트를 다시 반영하지 않음
+        verify(nodeA.getBean(BoardDetailCache.class), never()).invalidateAll(anyCollection());
+    }
+
+    private static ConfigurableApplicationContext startNode(int stompPort) {
+        // application.properties (secret import, DB 설정) 는 읽지 않음
+        return new SpringApplicationBuilder(Node.class)
+                .run("--spring.config.name=websocket-relay-test",
+                        "--server.port=0",
+                        "--chat.broker.mode=relay",
+                        "--app.cluster.enabled=true",
+                        // mock 게시물 빈에도 @Value 필드가 주입됨
+                        "--image.src.prefix=http://127.0.0.1/",
+                        "--chat.broker.relay.host=127.0.0.1",
+                        "--chat.broker.relay.port=" + stompPort);
+    }
+
+    // token: CONNECT 의 access 헤더 (null 이면 비회원)
+    private static StompSession connect(ConfigurableApplicationContext node, String token) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        WebSocketStompClient client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.getObjectMapper().findAndRegisterModules();
+        client.setMessageConverter(converter);
+        // RECEIPT 대기에 필요
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        client.setTaskScheduler(scheduler);
+        clients.add(client);
+        StompHeaders connectHeaders = new StompHeaders();
+        if (token != null) {
+            connectHeaders.add(StompAuthChannelInterceptor.ACCESS_HEADER, token);
+        }
+        return client.connectAsync("http://127.0.0.1:" + port + "/ws", new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            WebSocketMessagingAutoConfiguration.class})
+    @Import({WebSocketConfiguration.class, ChatController.class, BoardClusterEvents.class})
+    static class Node {
+        @Bean
+        MessageService messageService() {
+            MessageService service = mock(MessageService.class);
+            when(service.validate(any())).thenReturn(true);
+            return service;
+        }
+
+        // 보내는 쪽은 member-3 토큰으로 회원 3, 토큰 없는 구독자는 비회원
+        @Bean
+        StompAuthChannelInterceptor stompAuthChannelInterceptor() {
+            JWTUtil jwtUtil = mock(JWTUtil.class);
+            MemberIdResolver memberIdResolver = mock(MemberIdResolver.class);
+            when(jwtUtil.getCategory("member-3")).thenReturn("access");
+            when(jwtUtil.getUsername("member-3")).thenReturn("user3");
+            when(memberIdResolver.resolve("user3")).thenReturn(3);
+            return new StompAuthChannelInterceptor(jwtUtil, memberIdResolver);
+        }
+
+        @Bean
+        ChatMessageWriter chatMessageWriter() {
+            return mock(ChatMessageWriter.class);
+        }
+
+        @Bean
+        RecentChatMessages recentChatMessages() {
+            return mock(RecentChatMessages.class);
+        }
+
+        @Bean
+        BoardDetailCache boardDetailCache() {
+            return mock(BoardDetailCache.class);
+        }
+
+        @Bean
+        BoardThumbnailResolver boardThumbnailResolver() {
+            return mock(BoardThumbnailResolver.class);
+        }
+
+        @Bean
+        BoardVersions boardVersions() {
+            return mock(BoardVersions.class);
+        }
+
+        @Bean
+        BoardSearchIndex boardSearchIndex() {
+            return mock(BoardSearchIndex.class);
+        }
+
+        @Bean
+        BoardSearchCache boardSearchCache() {
+            return mock(BoardSearchCache.class);
+        }
+
+        @Bean
+        BoardSuggestService boardSuggestService() {
+            return mock(BoardSuggestService.class);
+        }
+
+        @Bean
+        BoardCountService boardCountService() {
+            return mock(BoardCountService.class);
+        }
+
+        @Bean
+        BoardViewCounter boardViewCounter() {
+            return mock(BoardViewCounter.class);
+        }
+
+        @Bean
+        BoardTrendingService boardTrendingService() {
+            return mock(BoardTrendingService.class);
+        }
+
+        @Bean
+        BoardWidgetService boardWidgetService() {
+            return mock(BoardWidgetService.class);
+        }
+    }
+}
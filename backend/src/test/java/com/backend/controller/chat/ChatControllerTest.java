@@ -0,0 +1,62 @@
+package com.backend.controller.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.security.StompAuthChannelInterceptor.MemberPrincipal;
+import com.backend.service.chat.ChatMessageWriter;
+import com.backend.service.chat.MessageService;
+import com.backend.service.chat.RecentChatMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 보낸 사람은 연결의 회원이고, 방은 두 회원의 대화 키여야 함
+class ChatControllerTest {
+    private final MessageService service = mock(MessageService.class);
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private final ChatMessageWriter writer = mock(ChatMessageWriter.class);
+    private final RecentChatMessages recentMessages = mock(RecentChatMessages.class);
+    private final ChatController controller = new ChatController(service, messagingTemplate, writer, recentMessages);
+
+    @BeforeEach
+    void setUp() {
+        when(service.validate(any())).thenReturn(true);
+    }
+
+    @Test
+    void senderComesFromPrincipal() {
+        ChatMessage message = message(null, 7);
+
+        controller.processMessage(message, "3-7", new MemberPrincipal(3));
+
+        assertThat(message.getSenderId()).isEqualTo(3);
+        verify(writer).accept(message);
+        verify(messagingTemplate).convertAndSend("/topic/chatroom/3-7", message);
+    }
+
+    @Test
+    void spoofedSenderWrongRoomAndAnonymousAreDropped() {
+        controller.processMessage(message(5, 7), "5-7", new MemberPrincipal(3));
+        controller.processMessage(message(3, 7), "3-8", new MemberPrincipal(3));
+        controller.processMessage(message(3, 7), "3-7", null);
+
+        verify(writer, never()).accept(any());
+        verify(recentMessages, never()).broadcast(any());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static ChatMessage message(Integer senderId, Integer recipientId) {
+        ChatMessage message = new ChatMessage();
+        message.setSenderId(senderId);
+        message.setRecipientId(recipientId);
+        message.setContent("안녕");
+        return message;
+    }
+}
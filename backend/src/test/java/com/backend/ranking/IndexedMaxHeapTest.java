@@ -0,0 +1,74 @@
+package com.backend.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 점수 변경 / 삭제 / 비율 조정 뒤에도 top 이 전체 정렬과 같은지
+class IndexedMaxHeapTest {
+
+    @Test
+    void topMatchesFullSortAfterRandomChanges() {
+        Random random = new Random(7);
+        IndexedMaxHeap heap = new IndexedMaxHeap();
+        Map<Integer, Double> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(500);
+            int op = random.nextInt(10);
+            if (op == 0) {
+                heap.remove(id);
+                expected.remove(id);
+            } else if (op == 1 && expected.containsKey(id)) {
+                // 점수 감소 (좋아요 취소)
+                double delta = -random.nextInt(5);
+                heap.add(id, delta);
+                expected.merge(id, delta, Double::sum);
+            } else {
+                double delta = random.nextInt(10);
+                heap.add(id, delta);
+                expected.merge(id, delta, Double::sum);
+            }
+            if (i % 5_000 == 0) {
+                heap.scale(0.5);
+                expected.replaceAll((key, score) -> score * 0.5);
+            }
+        }
+
+        assertThat(heap.size()).isEqualTo(expected.size());
+        expected.forEach((id, score) -> {
+            assertThat(heap.contains(id)).isTrue();
+            assertThat(heap.score(id)).isEqualTo(score);
+        });
+        List<Integer> sorted = expected.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertThat(heap.top(50)).containsExactly(sorted.subList(0, 50).stream().mapToInt(Integer::intValue).toArray());
+        assertThat(heap.top(10_000)).hasSize(expected.size());
+    }
+
+    @Test
+    void tiesPreferNewerIdAndMissingIdScoresZero() {
+        IndexedMaxHeap heap = new IndexedMaxHeap();
+        heap.add(1, 5);
+        heap.add(3, 5);
+        heap.add(2, 5);
+
+        assertThat(heap.top(3)).containsExactly(3, 2, 1);
+        assertThat(heap.score(9)).isZero();
+        assertThat(heap.contains(9)).isFalse();
+        assertThat(new IndexedMaxHeap().top(5)).isEmpty();
+
+        heap.remove(3);
+        heap.remove(9);
+        assertThat(heap.top(5)).containsExactly(2, 1);
+    }
+}
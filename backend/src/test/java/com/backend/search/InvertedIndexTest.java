@@ -0,0 +1,80 @@
+package com.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// bigram 후보 + 원문 재확인이 LIKE '%kw%' 와 같은 결과를 내는지
+class InvertedIndexTest {
+    private static final int TITLE = 0;
+    private static final int CONTENT = 1;
+    private static final int[] BOTH = {TITLE, CONTENT};
+    private static final int[] WEIGHTS = {3, 1};
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = InvertedIndex.build(2, Map.of(
+                1, new String[]{"강아지 산책", "오늘 공원에서"},
+                2, new String[]{"고양이", "강아지와 지강아 놀기"},
+                3, new String[]{"Dog Walk", "강 건너 아지트"}));
+    }
+
+    @Test
+    void bigramCandidatesAreRecheckedAgainstText() {
+        // 3 번은 "강", "아지" 를 따로 갖지만 "강아지" 는 없음 / 2 번은 "지강" bigram 이 있어도 순서가 다르면 제외
+        assertThat(index.search("강아지", BOTH, WEIGHTS, id -> true)).containsExactly(1, 2);
+        assertThat(index.search("아지강", BOTH, WEIGHTS, id -> true)).isEmpty();
+        assertThat(index.search("dog", BOTH, WEIGHTS, id -> true)).containsExactly(3);
+    }
+
+    @Test
+    void scoresByFieldWeightThenNewest() {
+        index.put(4, new String[]{"산책", "산책 산책 산책 산책"});
+
+        // 4 번: 3 + 4, 1 번: 3
+        assertThat(index.search("산책", BOTH, WEIGHTS, id -> true)).containsExactly(4, 1);
+        assertThat(index.search("산책", new int[]{TITLE}, new int[]{1}, id -> true)).containsExactly(4, 1);
+        assertThat(index.search("산책", BOTH, WEIGHTS, id -> id != 4)).containsExactly(1);
+    }
+
+    @Test
+    void singleCharacterScansAllDocuments() {
+        assertThat(index.search("강", BOTH, WEIGHTS, id -> true)).containsExactly(1, 2, 3);
+        assertThat(index.search("w", new int[]{TITLE}, new int[]{1}, id -> true)).containsExactly(3);
+        assertThat(index.search(" ", BOTH, WEIGHTS, id -> true)).containsExactly(3, 1, 2);
+        assertThat(index.search("", BOTH, WEIGHTS, id -> true)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsTokens() {
+        index.put(1, new String[]{"고양이 산책", null});
+        assertThat(index.search("강아지", BOTH, WEIGHTS, id -> true)).containsExactly(2);
+        assertThat(index.search("고양이", BOTH, WEIGHTS, id -> true)).containsExactly(2, 1);
+        assertThat(index.document(1)).containsExactly("고양이 산책", "");
+
+        index.remove(2);
+        assertThat(index.search("고양이", BOTH, WEIGHTS, id -> true)).containsExactly(1);
+        assertThat(index.search("강", BOTH, WEIGHTS, id -> true)).containsExactly(3);
+        assertThat(index.document(2)).isNull();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putOnEmptyIndexMatchesBuild() {
+        InvertedIndex built = InvertedIndex.build(2, Map.of(5, new String[]{"Hello World", "x"}));
+        InvertedIndex incremental = new InvertedIndex(2);
+        incremental.put(5, new String[]{"Hello World", "x"});
+
+        for (String query : new String[]{"hello", "LO W", "o", "world!"}) {
+            assertThat(incremental.search(query, BOTH, WEIGHTS, id -> true))
+                    .as(query)
+                    .isEqualTo(built.search(query, BOTH, WEIGHTS, id -> true));
+        }
+        assertThat(built.search("LO W", BOTH, WEIGHTS, id -> true)).containsExactly(5);
+    }
+}
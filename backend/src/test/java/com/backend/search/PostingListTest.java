@@ -0,0 +1,74 @@
+package com.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// delta + varint 압축이 id 를 그대로 돌려주는지 (varint 1~5 byte 경계 포함)
+class PostingListTest {
+
+    @Test
+    void roundTripsAcrossVarintWidths() {
+        int[] ids = {0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, 268_435_455, 268_435_456, Integer.MAX_VALUE};
+
+        PostingList list = PostingList.of(ids, ids.length);
+
+        assertThat(list.size()).isEqualTo(ids.length);
+        assertThat(list.toArray()).containsExactly(ids);
+        assertThat(list.contains(16_384)).isTrue();
+        assertThat(list.contains(16_385)).isFalse();
+    }
+
+    @Test
+    void ofUsesOnlyCount() {
+        PostingList list = PostingList.of(new int[]{3, 9, 42}, 2);
+
+        assertThat(list.toArray()).containsExactly(3, 9);
+        assertThat(PostingList.of(new int[0], 0).size()).isZero();
+    }
+
+    @Test
+    void withAndWithoutMatchSortedSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PostingList list = PostingList.EMPTY;
+
+        for (int i = 0; i < 5_000; i++) {
+            // 대부분은 뒤에 붙이기, 가끔 중간 삽입 / 삭제 / 중복
+            int id = random.nextInt(4) == 0 ? random.nextInt(100_000) : (expected.isEmpty() ? 0 : expected.last()) + 1 + random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                list = list.without(id);
+                expected.remove(id);
+            } else {
+                list = list.with(id);
+                expected.add(id);
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    void unchangedListIsReturnedAsIs() {
+        PostingList list = PostingList.of(new int[]{5, 10}, 2);
+
+        assertThat(list.with(5)).isSameAs(list);
+        assertThat(list.without(7)).isSameAs(list);
+        assertThat(list.without(11)).isSameAs(list);
+        assertThat(PostingList.of(new int[]{5}, 1).without(5)).isSameAs(PostingList.EMPTY);
+    }
+
+    // 뒤에 붙인 새 목록이 여유 공간을 공유해도 이전 목록은 그대로
+    @Test
+    void appendKeepsOlderInstance() {
+        PostingList older = PostingList.EMPTY.with(1).with(2);
+        PostingList newer = older.with(3);
+
+        assertThat(older.toArray()).containsExactly(1, 2);
+        assertThat(newer.toArray()).containsExactly(1, 2, 3);
+    }
+}
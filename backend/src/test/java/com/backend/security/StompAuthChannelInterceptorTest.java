@@ -0,0 +1,83 @@
+package com.backend.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 접속 상태는 토큰으로 확인한 회원 본인 것만
+class StompAuthChannelInterceptorTest {
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        JWTUtil jwtUtil = mock(JWTUtil.class);
+        MemberIdResolver memberIdResolver = mock(MemberIdResolver.class);
+        when(jwtUtil.isExpired("valid")).thenReturn(false);
+        when(jwtUtil.getCategory("valid")).thenReturn("access");
+        when(jwtUtil.getUsername("valid")).thenReturn("user7");
+        when(memberIdResolver.resolve("user7")).thenReturn(7);
+        when(jwtUtil.isExpired("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+        interceptor = new StompAuthChannelInterceptor(jwtUtil, memberIdResolver);
+    }
+
+    @Test
+    void connectWithTokenBecomesMember() {
+        assertThat(connect("valid")).isEqualTo(new StompAuthChannelInterceptor.MemberPrincipal(7));
+        assertThat(connect("expired")).isNull();
+        assertThat(connect(null)).isNull();
+    }
+
+    @Test
+    void presenceIsOnlyForThatMember() {
+        Principal member = new StompAuthChannelInterceptor.MemberPrincipal(7);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/presence/7", member), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/presence/8", member), channel)).isNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/presence/7", null), channel)).isNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "/topic/presence/8", member), channel)).isNull();
+        // 서버끼리 쓰는 목적지
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/cluster.board", member), channel)).isNull();
+        // 채팅방은 비회원 연결도 그대로
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/chatroom/3-7", null), channel)).isNotNull();
+    }
+
+    @Test
+    void chatMessagesNeedMember() {
+        Principal member = new StompAuthChannelInterceptor.MemberPrincipal(7);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "/app/chat/3-7", member), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "/app/chat/3-7", null), channel)).isNull();
+        // 방송 목적지에 직접 보내면 ChatController 를 건너뜀
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "/topic/chatroom/3-7", member), channel)).isNull();
+    }
+
+    private Principal connect(String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (token != null) {
+            accessor.setNativeHeader(StompAuthChannelInterceptor.ACCESS_HEADER, token);
+        }
+        accessor.setLeaveMutable(true);
+        Message<?> sent = interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel);
+        return StompHeaderAccessor.wrap(sent).getUser();
+    }
+
+    private static Message<?> frame(StompCommand command, String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,253 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardBlobMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로컬 S3 대역 (PutObject / multipart 만 흉내 내는 HTTP 서버) 에 실제 S3AsyncClient 로 올려 봄
+class BoardFileUploaderTest {
+    private static final String BUCKET = "test-bucket";
+    private static final int MULTIPART_THRESHOLD = 1024 * 1024;
+
+    private FakeS3 s3;
+    private S3AsyncClient client;
+    private BoardBlobMapper blobMapper;
+    private BoardBlobStore blobStore;
+    private BoardFileUploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3();
+        client = S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(URI.create("http://127.0.0.1:" + s3.port()))
+                .forcePathStyle(true)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes((long) MULTIPART_THRESHOLD)
+                        .minimumPartSizeInBytes((long) MULTIPART_THRESHOLD)
+                        .build())
+                .build();
+        blobMapper = mock(BoardBlobMapper.class);
+        blobStore = mock(BoardBlobStore.class);
+        when(blobMapper.selectStored(any())).thenReturn(List.of());
+        uploader = new BoardFileUploader(client, blobMapper, blobStore, BUCKET, 2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+        client.close();
+        s3.stop();
+    }
+
+    @Test
+    void uploadsSmallFilesAndLargeFileInParts() throws Exception {
+        byte[] small = bytes(10 * 1024, 1);
+        byte[] other = bytes(20 * 1024, 2);
+        byte[] large = bytes(MULTIPART_THRESHOLD * 3 + 123, 3);
+
+        List<BoardFileUploader.Uploaded> uploaded = uploader.upload(List.of(
+                file("a.png", small), file("b.png", other), file("c.png", large), file("a-copy.png", small)));
+
+        assertThat(uploaded).extracting(BoardFileUploader.Uploaded::name)
+                .containsExactly("a.png", "b.png", "c.png", "a-copy.png");
+        assertThat(uploaded.get(0).hash()).isEqualTo(sha256(small)).isEqualTo(uploaded.get(3).hash());
+        // 같은 내용은 한 번만 올림
+        assertThat(s3.objects).hasSize(3);
+        assertThat(s3.objects.get(BUCKET + "/" + BoardBlobStore.key(sha256(small)))).isEqualTo(small);
+        assertThat(s3.objects.get(BUCKET + "/" + BoardBlobStore.key(sha256(other)))).isEqualTo(other);
+        assertThat(s3.objects.get(BUCKET + "/" + BoardBlobStore.key(sha256(large)))).isEqualTo(large);
+        assertThat(s3.completedMultipart.get()).isEqualTo(1);
+        verify(blobMapper).markStored(anyCollection());
+    }
+
+    @Test
+    void storedContentIsNotUploadedAgain() throws Exception {
+        byte[] content = bytes(4096, 4);
+        when(blobMapper.selectStored(any())).thenReturn(List.of(sha256(content)));
+
+        List<BoardFileUploader.Uploaded> uploaded = uploader.upload(List.of(file("a.png", content)));
+
+        assertThat(uploaded.get(0).transferred()).isFalse();
+        assertThat(s3.objects).isEmpty();
+        verify(blobMapper, never()).markStored(anyCollection());
+    }
+
+    @Test
+    void failedUploadReleasesReferences() throws Exception {
+        s3.failPuts = true;
+        byte[] content = bytes(4096, 5);
+
+        assertThatThrownBy(() -> uploader.upload(List.of(file("a.png", content)))).isInstanceOf(IOException.class);
+
+        verify(blobStore).release(List.of(sha256(content)));
+        verify(blobMapper, never()).markStored(anyCollection());
+    }
+
+    private static MultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "image/png", content);
+    }
+
+    private static byte[] bytes(int size, long seed) {
+        byte[] content = new byte[size];
+        new Random(seed).nextBytes(content);
+        return content;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    // 경로 스타일 요청만 처리 (/{bucket}/{key})
+    private static class FakeS3 {
+        private final HttpServer server;
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        // uploadId -> 파트 번호 -> 내용
+        private final Map<String, Map<Integer, byte[]>> parts = new ConcurrentHashMap<>();
+        private final AtomicInteger uploadIds = new AtomicInteger();
+        private final AtomicInteger completedMultipart = new AtomicInteger();
+        private volatile boolean failPuts;
+
+        FakeS3() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath().substring(1);
+                Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+                byte[] body = body(exchange);
+                String method = exchange.getRequestMethod();
+                if (failPuts) {
+                    reply(exchange, 500, "<Error><Code>InternalError</Code><Message>fail</Message></Error>");
+                } else if (method.equals("PUT") && query.containsKey("partNumber")) {
+                    parts.get(query.get("uploadId")).put(Integer.parseInt(query.get("partNumber")), body);
+                    exchange.getResponseHeaders().add("ETag", "\"part-" + query.get("partNumber") + "\"");
+                    reply(exchange, 200, "");
+                } else if (method.equals("PUT")) {
+                    objects.put(path, body);
+                    exchange.getResponseHeaders().add("ETag", "\"object\"");
+                    reply(exchange, 200, "");
+                } else if (method.equals("POST") && query.containsKey("uploads")) {
+                    String uploadId = "upload-" + uploadIds.incrementAndGet();
+                    parts.put(uploadId, new ConcurrentSkipListMap<>());
+                    reply(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>"
+                            + path.substring(BUCKET.length() + 1) + "</Key><UploadId>" + uploadId
+                            + "</UploadId></InitiateMultipartUploadResult>");
+                } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                    ByteArrayOutputStream joined = new ByteArrayOutputStream();
+                    for (byte[] part : parts.remove(query.get("uploadId")).values()) {
+                        joined.writeBytes(part);
+                    }
+                    objects.put(path, joined.toByteArray());
+                    completedMultipart.incrementAndGet();
+                    reply(exchange, 200, "<CompleteMultipartUploadResult><Bucket>" + BUCKET
+                            + "</Bucket><ETag>\"object\"</ETag></CompleteMultipartUploadResult>");
+                } else {
+                    reply(exchange, 400, "<Error><Code>NotImplemented</Code></Error>");
+                }
+            }
+        }
+
+        // aws-chunked 로 온 본문은 청크 서명을 떼고 내용만 남김
+        private static byte[] body(HttpExchange exchange) throws IOException {
+            byte[] raw;
+            try (InputStream in = exchange.getRequestBody()) {
+                raw = in.readAllBytes();
+            }
+            String sha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+            if (sha == null || !sha.startsWith("STREAMING-")) {
+                return raw;
+            }
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            int position = 0;
+            while (position < raw.length) {
+                int lineEnd = indexOfCrlf(raw, position);
+                String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+                int size = Integer.parseInt(header.split(";")[0], 16);
+                if (size == 0) {
+                    break;
+                }
+                decoded.write(raw, lineEnd + 2, size);
+                position = lineEnd + 2 + size + 2;
+            }
+            return decoded.toByteArray();
+        }
+
+        private static int indexOfCrlf(byte[] raw, int from) {
+            for (int i = from; i < raw.length - 1; i++) {
+                if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                    return i;
+                }
+            }
+            return raw.length;
+        }
+
+        private static Map<String, String> query(String rawQuery) {
+            Map<String, String> query = new TreeMap<>();
+            if (rawQuery == null) {
+                return query;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                query.put(equals < 0 ? pair : pair.substring(0, equals), equals < 0 ? "" : pair.substring(equals + 1));
+            }
+            return query;
+        }
+
+        private static void reply(HttpExchange exchange, int status, String xml) throws IOException {
+            byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                exchange.getResponseBody().write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.backend.service.board;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 휴대폰 사진처럼 픽셀은 가로로 저장되고 EXIF Orientation 으로 세워 보이는 JPEG
+class BoardImageProcessorOrientationTest {
+
+    @Test
+    void readsOrientationInBothByteOrders() throws Exception {
+        byte[] jpeg = jpeg(leftRedRightBlue());
+
+        assertThat(BoardImageProcessor.orientation(jpeg)).isEqualTo(1);
+        assertThat(BoardImageProcessor.orientation(withExif(jpeg, 6, false))).isEqualTo(6);
+        assertThat(BoardImageProcessor.orientation(withExif(jpeg, 8, true))).isEqualTo(8);
+        assertThat(BoardImageProcessor.orientation(new byte[]{(byte) 0x89, 'P', 'N', 'G'})).isEqualTo(1);
+    }
+
+    @Test
+    void rotatesBeforeResizing() throws Exception {
+        byte[] jpeg = withExif(jpeg(leftRedRightBlue()), 6, false);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+        BufferedImage oriented = BoardImageProcessor.orient(decoded, BoardImageProcessor.orientation(jpeg));
+
+        // 시계 방향 90도: 왼쪽(빨강)이 위로
+        assertThat(oriented.getWidth()).isEqualTo(40);
+        assertThat(oriented.getHeight()).isEqualTo(80);
+        assertThat(isRed(oriented.getRGB(20, 10))).isTrue();
+        assertThat(isRed(oriented.getRGB(20, 70))).isFalse();
+    }
+
+    // 헤더의 크기만 보고 큰 이미지는 픽셀을 풀지 않음
+    @Test
+    void skipsImagesAbovePixelCap() throws Exception {
+        Path file = Files.createTempFile("board-image-test-", ".png");
+        try {
+            ImageIO.write(leftRedRightBlue(), "png", file.toFile());
+
+            assertThat(BoardImageProcessor.decode(file, 80 * 40 - 1)).isNull();
+            BufferedImage decoded = BoardImageProcessor.decode(file, 80 * 40);
+            assertThat(decoded.getWidth()).isEqualTo(80);
+            assertThat(decoded.getHeight()).isEqualTo(40);
+
+            Files.write(file, new byte[]{'R', 'I', 'F', 'F', 0, 0, 0, 0});
+            assertThat(BoardImageProcessor.decode(file, 80 * 40)).isNull();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static BufferedImage leftRedRightBlue() {
+        BufferedImage image = new BufferedImage(80, 40, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 40, 40);
+        g.setColor(Color.BLUE);
+        g.fillRect(40, 0, 40, 40);
+        g.dispose();
+        return image;
+    }
+
+    private static boolean isRed(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 200 && color.getBlue() < 60;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif) 세그먼트를 넣음
+    private static byte[] withExif(byte[] jpeg, int orientation, boolean little) {
+        ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+        tiff.writeBytes(little ? new byte[]{'I', 'I'} : new byte[]{'M', 'M'});
+        write16(tiff, 42, little);
+        write32(tiff, 8, little);
+        write16(tiff, 1, little);
+        write16(tiff, 0x0112, little);
+        write16(tiff, 3, little);
+        write32(tiff, 1, little);
+        write16(tiff, orientation, little);
+        write16(tiff, 0, little);
+        write32(tiff, 0, little);
+
+        byte[] body = tiff.toByteArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        out.write(0xD8);
+        out.write(0xFF);
+        out.write(0xE1);
+        write16(out, 2 + 6 + body.length, false);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(body);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static void write16(ByteArrayOutputStream out, int value, boolean little) {
+        if (little) {
+            out.write(value & 0xFF);
+            out.write(value >> 8 & 0xFF);
+        } else {
+            out.write(value >> 8 & 0xFF);
+            out.write(value & 0xFF);
+        }
+    }
+
+    private static void write32(ByteArrayOutputStream out, int value, boolean little) {
+        if (little) {
+            write16(out, value & 0xFFFF, true);
+            write16(out, value >>> 16, true);
+        } else {
+            write16(out, value >>> 16, false);
+            write16(out, value & 0xFFFF, false);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.BoardLike;
+import com.backend.mapper.board.BoardMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 좋아요 반영이 게시물 하나 때문에 계속 실패하지 않는지
+class BoardLikeEngineFlushTest {
+    private BoardMapper mapper;
+    private BoardLikeEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(BoardMapper.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        engine = new BoardLikeEngine(mapper, mock(BoardStatsService.class), transactionTemplate, new BoardVersions(),
+                new SimpleMeterRegistry(), false, 1000, 60);
+        when(mapper.selectLikeMemberIdsByBoardId(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void toggleOnMissingBoardIsRejected() {
+        when(mapper.existsById(9)).thenReturn(false);
+
+        assertThatThrownBy(() -> engine.toggle(9, 3)).isInstanceOf(IllegalArgumentException.class);
+        engine.flush();
+
+        verify(mapper, never()).insertLikes(anyList());
+    }
+
+    @Test
+    void boardDeletedBeforeFlushIsDroppedAndOthersAreWritten() {
+        when(mapper.existsById(7)).thenReturn(true);
+        // 토글할 때는 있었고 반영 전에 삭제됨
+        when(mapper.existsById(9)).thenReturn(true, false);
+        when(mapper.insertLikes(anyList())).thenAnswer(invocation -> {
+            List<BoardLike> likes = invocation.getArgument(0);
+            if (likes.stream().anyMatch(like -> like.getBoardId() == 9)) {
+                throw new DataIntegrityViolationException("board_like_ibfk_1");
+            }
+            return likes.size();
+        });
+
+        engine.toggle(7, 3);
+        engine.toggle(9, 3);
+        engine.flush();
+
+        verify(mapper).insertLikes(List.of(new BoardLike(7, 3)));
+
+        // 버린 변경은 다음 주기에 다시 쓰지 않음
+        clearInvocations(mapper);
+        engine.flush();
+        verify(mapper, never()).insertLikes(anyList());
+        assertThat(engine.count(7)).isEqualTo(1);
+    }
+}
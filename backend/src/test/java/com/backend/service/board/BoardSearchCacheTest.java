@@ -0,0 +1,71 @@
+package com.backend.service.board;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// 같은 검색이 몰릴 때 한 번만 검색하는지, 검색이 실패해도 기다리던 요청이 멈추지 않는지
+class BoardSearchCacheTest {
+    private static final int REQUESTS = 100;
+
+    private final BoardSearchCache cache = new BoardSearchCache(new SimpleMeterRegistry(), 30, 1_000_000);
+
+    @Test
+    void concurrentSearchesRunQueryOnce() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(REQUESTS);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    return cache.ids("all", "all", "spring", () -> {
+                        queries.incrementAndGet();
+                        // 나머지 요청이 모두 들어올 때까지 검색이 끝나지 않음
+                        await(started);
+                        return List.of(3, 2, 1);
+                    });
+                }));
+            }
+            for (Future<List<Integer>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).containsExactly(3, 2, 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void errorInQueryDoesNotLeaveSearchPending() {
+        assertThatThrownBy(() -> cache.ids("all", "all", "spring", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        List<Integer> ids = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> cache.ids("all", "all", "spring", () -> List.of(1)));
+        assertThat(ids).containsExactly(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.domain.board.BoardComment;
+import com.backend.domain.board.BoardDetail;
+import com.backend.mapper.board.BoardCommentMapper;
+import com.backend.mapper.board.BoardMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+// 상세 조회가 mapper 호출 한 번(selectDetail)으로 끝나는지 고정
+// 실제 DB 로 나가는 SQL 문을 세는 것이 아니라 mock mapper 의 메서드 호출 수를 셈 (mapper 메서드 하나 = 문장 하나)
+// 조회수 / 좋아요 / 인기 급상승은 실제 객체를 써서 그쪽에서 부르는 mapper 도 같이 셈
+class BoardServiceDetailQueryTest {
+    private BoardMapper mapper;
+    private BoardCommentMapper boardCommentMapper;
+    private BoardLikeEngine likeEngine;
+    private BoardSearchIndex searchIndex;
+    private BoardService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(BoardMapper.class);
+        boardCommentMapper = mock(BoardCommentMapper.class);
+        BoardVersions versions = new BoardVersions();
+        searchIndex = mock(BoardSearchIndex.class);
+        likeEngine = new BoardLikeEngine(mapper, mock(BoardStatsService.class), mock(TransactionTemplate.class), versions,
+                new SimpleMeterRegistry(), false, 1000, 60);
+        service = new BoardService(
+                mapper,
+                mock(BoardBlobStore.class),
+                boardCommentMapper,
+                mock(BoardThumbnailResolver.class),
+                mock(BoardStatsService.class),
+                searchIndex,
+                mock(BoardCountService.class),
+                new BoardViewCounter(mapper),
+                mock(BoardWidgetService.class),
+                new BoardTrendingService(mapper, 24, 7),
+                likeEngine,
+                mock(BoardFileUploader.class),
+                mock(TransactionTemplate.class),
+                JsonMapper.builder().findAndAddModules().build(),
+                new BoardDetailCache(new SimpleMeterRegistry(), "entries", 100, 0, false, 30),
+                mock(BoardImageProcessor.class),
+                versions,
+                mock(BoardSuggestService.class),
+                new BoardSearchCache(new SimpleMeterRegistry(), 30, 1000),
+                mock(BoardUniqueViews.class),
+                mock(BoardClusterEvents.class));
+        ReflectionTestUtils.setField(service, "srcPrefix", "https://cdn/prj3/");
+
+        when(mapper.selectDetail(eq(7), any(), anyInt())).thenReturn(detail());
+    }
+
+    @Test
+    void detailIsOneStatement() {
+        Map<String, Object> result = service.getByBoardIdAndMemberId(7, 3, "m:3");
+
+        verify(mapper, times(1)).selectDetail(7, 3, 21);
+        verifyNoMoreInteractions(mapper, boardCommentMapper);
+
+        Board board = (Board) result.get("board");
+        assertThat(board.getTitle()).isEqualTo("산책");
+        assertThat(board.getFileList()).extracting("name").containsExactly("a.jpg", "b.jpg");
+        // 해시가 없는 파일은 예전 키
+        assertThat(board.getFileList()).extracting("src").containsExactly("https://cdn/prj3/blob/9f2c", "https://cdn/prj3/board/7/b.jpg");
+        assertThat(result.get("like")).isEqualTo(Map.of("like", true, "count", 2));
+        @SuppressWarnings("unchecked")
+        List<BoardComment> comments = (List<BoardComment>) result.get("comments");
+        assertThat(comments).extracting(BoardComment::getBoardComment).containsExactly("귀여워요");
+        assertThat(comments.get(0).getInserted()).isEqualTo(LocalDateTime.of(2024, 6, 1, 12, 30));
+        assertThat(result.get("hasMoreComments")).isEqualTo(false);
+    }
+
+    @Test
+    void loadedLikeStateStillOneStatement() {
+        // 좋아요 누르면서 엔진에 읽힌 게시물
+        when(mapper.selectLikeMemberIdsByBoardId(7)).thenReturn(List.of(3, 4));
+        likeEngine.toggle(7, 3);
+        clearInvocations(mapper);
+
+        Map<String, Object> result = service.getByBoardIdAndMemberId(7, 3, "m:3");
+
+        verify(mapper, times(1)).selectDetail(7, 3, 21);
+        verifyNoMoreInteractions(mapper, boardCommentMapper);
+        // 아직 DB 에 반영 전인 취소가 보여야 함
+        assertThat(result.get("like")).isEqualTo(Map.of("like", false, "count", 1));
+    }
+
+    @Test
+    void cachedDetailSkipsQuery() {
+        service.getByBoardIdAndMemberId(7, 3, "m:3");
+        // 캐시 적중 후 첫 조회는 좋아요 엔진이 한 번 읽음
+        service.getByBoardIdAndMemberId(7, 3, "m:3");
+        clearInvocations(mapper);
+
+        Map<String, Object> result = service.getByBoardIdAndMemberId(7, 3, "m:3");
+
+        verifyNoMoreInteractions(mapper, boardCommentMapper);
+        // 조회수는 캐시에 들어온 뒤 늘어난 만큼 덧씌움
+        assertThat(((Board) result.get("board")).getViews()).isEqualTo(13);
+    }
+
+    // 304 로 응답한 조회는 캐시에 없어도 검색 색인으로 있는 게시물인지 확인 (색인이 없을 때만 DB)
+    @Test
+    void notModifiedViewChecksIndexBeforeDatabase() {
+        when(searchIndex.contains(7)).thenReturn(true);
+        when(searchIndex.contains(8)).thenReturn(false);
+
+        service.viewed(7, "m:3");
+        service.viewed(8, "m:3");
+        verifyNoMoreInteractions(mapper);
+
+        when(searchIndex.contains(7)).thenReturn(null);
+        service.viewed(7, "m:3");
+        verify(mapper).existsById(7);
+    }
+
+    private static BoardDetail detail() {
+        BoardDetail detail = new BoardDetail();
+        detail.setId(7);
+        detail.setTitle("산책");
+        detail.setContent("오늘 산책");
+        detail.setInserted(LocalDateTime.of(2024, 6, 1, 12, 0));
+        detail.setWriter("멍멍");
+        detail.setMemberId(4);
+        detail.setViews(10);
+        detail.setBoardType("자유");
+        detail.setFiles("""
+                [{"name": "a.jpg", "hash": "9f2c"}, {"name": "b.jpg", "hash": null}]
+                """);
+        detail.setLikeCount(2);
+        detail.setLiked(true);
+        detail.setComments("""
+                [{"id": 1, "boardComment": "귀여워요", "inserted": "2024-06-01T12:30:00", "writer": "냥냥", "memberId": 3}]
+                """);
+        return detail;
+    }
+}
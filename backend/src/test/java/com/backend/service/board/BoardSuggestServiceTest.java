@@ -0,0 +1,53 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.mapper.board.BoardMapper;
+import com.backend.mapper.member.MemberMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 메모리 한도로 색인에 못 넣은 출처를 지울 때 같은 문자열의 다른 출처를 빼지 않는지
+class BoardSuggestServiceTest {
+    private final BoardMapper boardMapper = mock(BoardMapper.class);
+    private final MemberMapper memberMapper = mock(MemberMapper.class);
+    // 항목 하나만 들어가는 한도
+    private final BoardSuggestService service = new BoardSuggestService(boardMapper, memberMapper, 150);
+
+    @BeforeEach
+    void setUp() {
+        when(boardMapper.selectForSuggest()).thenReturn(List.of(board(1, "고양이", 100), board(2, "강아지", 0)));
+        when(memberMapper.selectNicknames()).thenReturn(List.of());
+        service.rebuild();
+    }
+
+    @Test
+    void sourceThatDidNotFitIsNotSubtracted() {
+        assertThat(service.suggest("강", "글", 10)).isEmpty();
+
+        // 자리가 난 뒤 같은 제목의 게시물이 들어감
+        service.boardsRemoved(List.of(1));
+        when(boardMapper.selectForSearchIndex(3)).thenReturn(board(3, "강아지", 0));
+        service.boardSaved(3);
+        assertThat(service.suggest("강", "글", 10)).containsExactly(Map.of("text", "강아지", "type", "title"));
+
+        // 색인에 없던 게시물 2 를 지워도 게시물 3 의 항목은 남음
+        service.boardsRemoved(List.of(2));
+        assertThat(service.suggest("강", "글", 10)).containsExactly(Map.of("text", "강아지", "type", "title"));
+    }
+
+    private static Board board(int id, String title, int views) {
+        Board board = new Board();
+        board.setId(id);
+        board.setTitle(title);
+        board.setMemberId(4);
+        board.setViews(views);
+        return board;
+    }
+}
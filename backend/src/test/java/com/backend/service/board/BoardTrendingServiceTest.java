@@ -0,0 +1,53 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.Board;
+import com.backend.mapper.board.BoardMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 조회는 모았다가 flushViews 에서 한 번에 점수에 더함
+class BoardTrendingServiceTest {
+    private final BoardTrendingService service = new BoardTrendingService(mock(BoardMapper.class), 24, 7);
+
+    @Test
+    void viewsCountAfterFlush() {
+        for (int i = 0; i < 3; i++) {
+            service.viewed(board(7, "자유"));
+        }
+        service.viewed(board(8, "자유"));
+        assertThat(service.top("전체", 10)).isEmpty();
+
+        service.flushViews();
+
+        assertThat(service.top("전체", 10)).containsExactly(7, 8);
+        assertThat(service.top("자유", 10)).containsExactly(7, 8);
+
+        // 한 번 더한 조회는 다시 더하지 않음
+        for (int i = 0; i < 3; i++) {
+            service.viewed(board(8, "자유"));
+        }
+        service.flushViews();
+        assertThat(service.top("전체", 10)).containsExactly(8, 7);
+    }
+
+    @Test
+    void removedBoardDropsPendingViews() {
+        service.viewed(board(7, "자유"));
+        service.removed(7);
+
+        service.flushViews();
+
+        assertThat(service.top("전체", 10)).isEmpty();
+    }
+
+    private static Board board(int id, String boardType) {
+        Board board = new Board();
+        board.setId(id);
+        board.setBoardType(boardType);
+        return board;
+    }
+}
@@ -0,0 +1,75 @@
+package com.backend.service.board;
+
+import com.backend.domain.board.BoardViewSketch;
+import com.backend.mapper.board.BoardViewSketchMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 삭제된 게시물의 스케치 하나 때문에 저장이 계속 실패하지 않는지
+class BoardUniqueViewsFlushTest {
+    private BoardViewSketchMapper mapper;
+    private BoardUniqueViews uniqueViews;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(BoardViewSketchMapper.class);
+        when(mapper.selectAll()).thenReturn(List.of());
+        uniqueViews = new BoardUniqueViews(mapper);
+        uniqueViews.load();
+    }
+
+    @Test
+    void sketchOfDeletedBoardIsDroppedAndOthersAreWritten() {
+        List<Integer> written = new ArrayList<>();
+        when(mapper.upsert(anyList())).thenAnswer(invocation -> {
+            List<BoardViewSketch> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> row.getBoardId() == 9)) {
+                throw new DataIntegrityViolationException("board_view_sketch_ibfk_1");
+            }
+            rows.forEach(row -> written.add(row.getBoardId()));
+            return rows.size();
+        });
+
+        uniqueViews.viewed(7, "m:3");
+        uniqueViews.viewed(9, "m:3");
+        uniqueViews.flush();
+
+        assertThat(written).containsExactly(7);
+        assertThat(uniqueViews.count(9)).isZero();
+
+        // 버린 스케치는 다음 주기에 다시 쓰지 않음
+        clearInvocations(mapper);
+        uniqueViews.flush();
+        verify(mapper, never()).upsert(anyList());
+    }
+
+    @Test
+    void outageKeepsEverythingForNextFlush() {
+        when(mapper.upsert(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        uniqueViews.viewed(7, "m:3");
+        uniqueViews.viewed(9, "m:3");
+        uniqueViews.flush();
+
+        assertThat(uniqueViews.count(7)).isEqualTo(1);
+        assertThat(uniqueViews.count(9)).isEqualTo(1);
+        clearInvocations(mapper);
+        doReturn(2).when(mapper).upsert(anyList());
+        uniqueViews.flush();
+        verify(mapper).upsert(anyList());
+    }
+}
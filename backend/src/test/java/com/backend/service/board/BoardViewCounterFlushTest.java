@@ -0,0 +1,49 @@
+package com.backend.service.board;
+
+import com.backend.mapper.board.BoardMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 반영 중에도 덧씌우는 조회수가 빠지지 않는지
+class BoardViewCounterFlushTest {
+    private final BoardMapper mapper = mock(BoardMapper.class);
+    private final BoardViewCounter counter = new BoardViewCounter(mapper);
+
+    @Test
+    void pendingStaysVisibleUntilChunkIsWritten() {
+        List<Long> seen = new ArrayList<>();
+        when(mapper.incrementViews(anyMap())).thenAnswer(invocation -> {
+            Map<Integer, Long> chunk = invocation.getArgument(0);
+            seen.add(chunk.get(7));
+            seen.add(counter.pending(7));
+            return chunk.size();
+        });
+
+        counter.increment(7);
+        counter.increment(7);
+        counter.flush();
+
+        assertThat(seen).containsExactly(2L, 2L);
+        assertThat(counter.pending(7)).isZero();
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        when(mapper.incrementViews(anyMap())).thenThrow(new QueryTimeoutException("timeout"));
+
+        counter.increment(7);
+        counter.flush();
+        counter.increment(7);
+
+        assertThat(counter.pending(7)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.service.chat;
+
+import com.backend.domain.chat.ChatMessage;
+import com.backend.mapper.chat.MessageMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 묶음 안의 메시지 하나 때문에 나머지가 버려지지 않는지, 버린 메시지는 최근 메시지 버퍼에 남지 않는지
+class ChatMessageWriterTest {
+
+    @Test
+    void rejectedBatchIsWrittenOneByOne() throws Exception {
+        MessageMapper mapper = mock(MessageMapper.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        List<String> stored = new ArrayList<>();
+        AtomicInteger nextId = new AtomicInteger(1);
+        AtomicInteger lastInsertId = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<ChatMessage> messages = invocation.getArgument(0);
+            // 저장할 수 없는 메시지 (FK 위반 등)
+            if (messages.stream().anyMatch(message -> message.getContent().equals("bad"))) {
+                throw new DataIntegrityViolationException("chat_message_ibfk_2");
+            }
+            lastInsertId.set(nextId.getAndAdd(messages.size()));
+            messages.forEach(message -> stored.add(message.getContent()));
+            return null;
+        }).when(mapper).insertMessages(anyList());
+        when(mapper.selectLastInsertId()).thenAnswer(invocation -> lastInsertId.get());
+
+        // 큐에 모두 모인 뒤 한 묶음으로 쓰도록 linger 를 길게
+        RecentChatMessages recentMessages = new RecentChatMessages(new SimpleMeterRegistry(), "simple", 50, 1 << 20, 30);
+        ChatMessageWriter writer = new ChatMessageWriter(mapper, transactionTemplate, recentMessages,
+                new SimpleMeterRegistry(), 100, 10, 500, 100);
+        ChatMessage first = message("first");
+        ChatMessage bad = message("bad");
+        ChatMessage last = message("last");
+        for (ChatMessage message : List.of(first, bad, last)) {
+            recentMessages.broadcast(message);
+            writer.accept(message);
+        }
+        writer.shutdown();
+
+        assertThat(stored).containsExactly("first", "last");
+        assertThat(first.getId()).isEqualTo(1);
+        assertThat(bad.getId()).isNull();
+        assertThat(last.getId()).isEqualTo(2);
+        // 저장하지 못한 메시지는 최근 메시지 버퍼에서도 빠짐
+        assertThat(recentMessages.page("1-2", null, 2, count -> List.of()))
+                .extracting(ChatMessage::getContent).containsExactly("last", "first");
+    }
+
+    private static ChatMessage message(String content) {
+        ChatMessage message = new ChatMessage();
+        message.setSenderId(1);
+        message.setRecipientId(2);
+        message.setContent(content);
+        return message;
+    }
+}
@@ -1,22 +1,37 @@
 import { useEffect, useState } from "react";
 import axios from "axios";
-import { Box } from "@chakra-ui/react";
+import { Box, Button } from "@chakra-ui/react";
 import { BoardCommentItem } from "./BoardCommentItem.jsx";
 
+// 댓글은 id 순으로 20개씩 (after 커서)
+const PAGE_SIZE = 20;
+
 export function BoardCommentList({ boardId, isProcessing, setIsProcessing }) {
   const [boardCommentList, setBoardCommentList] = useState([]);
+  const [hasMore, setHasMore] = useState(false);
+  const [isLoading, setIsLoading] = useState(false);
+
+  function loadPage(after) {
+    setIsLoading(true);
+    axios
+      .get(`/api/comment/page/${boardId}`, {
+        params: { after, limit: PAGE_SIZE },
+      })
+      .then((res) => {
+        setBoardCommentList((list) =>
+          after == null ? res.data.comments : [...list, ...res.data.comments],
+        );
+        setHasMore(res.data.hasMore);
+      })
+      .catch((err) => {
+        console.log(err);
+      })
+      .finally(() => setIsLoading(false));
+  }
+
   useEffect(() => {
     if (!isProcessing) {
-      axios
-        .get(`/api/comment/list/${boardId}`)
-        .then((res) => {
-          // console.log(res.data);
-          setBoardCommentList(res.data);
-        })
-        .catch((err) => {
-          console.log(err);
-        })
-        .finally(() => {});
+      loadPage(null);
     }
   }, [isProcessing]);
   if (boardCommentList.length === 0) {
@@ -32,6 +47,16 @@ export function BoardCommentList({ boardId, isProcessing, setIsProcessing }) {
           key={comment.id}
         />
       ))}
+      {hasMore && (
+        <Button
+          isLoading={isLoading}
+          onClick={() =>
+            loadPage(boardCommentList[boardCommentList.length - 1].id)
+          }
+        >
+          댓글 더 보기
+        </Button>
+      )}
     </Box>
   );
 }
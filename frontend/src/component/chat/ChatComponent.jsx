@@ -18,6 +18,8 @@ import { Client } from "@stomp/stompjs";
 import axios from "axios";
 import { LoginContext } from '../LoginProvider';
 
+const MESSAGE_PAGE_SIZE = 50;
+
 export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
   const { memberInfo } = useContext(LoginContext) || {};
   const username = memberInfo?.nickname;
@@ -28,6 +30,9 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
   const [isConnected, setIsConnected] = useState(false);
   const [isMinimized, setIsMinimized] = useState(false);
   const messagesEndRef = useRef(null);
+  const [hasMore, setHasMore] = useState(false);
+  // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않음
+  const prependingRef = useRef(false);
 
   const prevOnNewMessageRef = useRef();
 
@@ -46,6 +51,8 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
       const socket = new SockJS(`/ws`);
       const client = new Client({
         webSocketFactory: () => socket,
+        // 서버는 이 토큰의 회원을 보낸 사람으로 씀 (토큰이 없으면 메시지를 버림)
+        connectHeaders: { access: memberInfo.access || "" },
         reconnectDelay: 5000,
         onConnect: () => {
           client.subscribe(`/topic/chatroom/${roomId}`, (message) => {
@@ -85,16 +92,38 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
     }
   }, [username, selectedFriend, onNewMessage, userId]);
 
-  const fetchMessagesForRoom = async (roomId) => {
+  // 서버는 최신순 페이지로 줌 -> 화면은 오래된 것부터
+  const fetchMessagesForRoom = async (roomId, before) => {
     try {
-      const response = await axios.get(`/api/chat/messages/${roomId}`);
-      setMessages(response.data);
+      const response = await axios.get(`/api/chat/messages/${roomId}`, {
+        params: { before, limit: MESSAGE_PAGE_SIZE },
+      });
+      const page = [...response.data].reverse();
+      setHasMore(response.data.length === MESSAGE_PAGE_SIZE);
+      if (before == null) {
+        setMessages(page);
+      } else {
+        prependingRef.current = true;
+        setMessages((prevMessages) => [...page, ...prevMessages]);
+      }
     } catch (error) {
       console.error("Error fetching messages:", error);
     }
   };
 
+  const fetchOlderMessages = () => {
+    const roomId = [userId, selectedFriend.id].sort((a, b) => a - b).join('-');
+    const oldest = messages.find((msg) => msg.id != null);
+    if (oldest) {
+      fetchMessagesForRoom(roomId, oldest.id);
+    }
+  };
+
   useEffect(() => {
+    if (prependingRef.current) {
+      prependingRef.current = false;
+      return;
+    }
     messagesEndRef.current?.scrollIntoView({ behavior: "auto" });
   }, [messages]);
 
@@ -116,17 +145,12 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
       recipientNickName: selectedFriend.nickname
     };
 
+    // 서버가 받아서 저장까지 함
     stompClient.publish({
       destination: `/app/chat/${roomId}`,
       body: JSON.stringify(chatMessage)
     });
 
-    try {
-      await axios.post('/api/chat', chatMessage);
-    } catch (error) {
-      console.error("Error saving message to the server:", error);
-    }
-
     setMessage('');
   };
 
@@ -160,6 +184,13 @@ export const ChatComponent = ({ selectedFriend, onClose, onNewMessage }) => {
       {!isMinimized && (
         <VStack spacing={4} p={2}>
           <Box width="100%" h="300px" overflowY="scroll" p={2} borderWidth="1px" borderRadius="lg">
+            {hasMore && (
+              <Flex justifyContent="center" mb={2}>
+                <Button size="xs" onClick={fetchOlderMessages}>
+                  이전 메시지
+                </Button>
+              </Flex>
+            )}
             {messages.map((msg, index) => (
               <Flex key={index} justifyContent={Number(msg.senderId) === Number(userId) ? "flex-start" : "flex-end"} mb={2}>
                 <Box
@@ -1,4 +1,4 @@
-import React, { useContext, useEffect, useState } from "react";
+import React, { useContext, useEffect, useRef, useState } from "react";
 import Draggable from "react-draggable";
 import {
   Avatar,
@@ -16,9 +16,14 @@ import { FontAwesomeIcon } from "@fortawesome/react-fontawesome";
 import { faHouse, faPlus } from "@fortawesome/free-solid-svg-icons";
 import { useNavigate } from "react-router-dom";
 import axios from "axios";
+import SockJS from "sockjs-client";
+import { Client } from "@stomp/stompjs";
 import { LoginContext } from "../LoginProvider.jsx";
 import { generateDiaryId } from "../../util/util";
 
+// 접속 상태 heartbeat 간격 (서버 presence.timeout-millis 보다 짧게)
+const PRESENCE_HEARTBEAT_MS = 30000;
+
 export const FriendsListComponent = ({ onSelectFriend, newMessages = {} }) => {
   const [friends, setFriends] = useState([]);
   const [isLoading, setIsLoading] = useState(true);
@@ -27,6 +32,8 @@ export const FriendsListComponent = ({ onSelectFriend, newMessages = {} }) => {
 
   const { memberInfo } = useContext(LoginContext);
   const memberId = memberInfo ? memberInfo.id : null;
+  // 목록에 없는 친구의 상태가 오면 목록을 다시 읽음
+  const friendIdsRef = useRef(new Set());
 
   const toggleMinimize = () => {
     setIsMinimized(!isMinimized);
@@ -58,6 +65,7 @@ export const FriendsListComponent = ({ onSelectFriend, newMessages = {} }) => {
           }),
         );
 
+        friendIdsRef.current = new Set(friendsWithImages.map((f) => f.id));
         setFriends(friendsWithImages);
       } catch (error) {
         console.error("There was an error fetching the friends!", error);
@@ -84,13 +92,49 @@ export const FriendsListComponent = ({ onSelectFriend, newMessages = {} }) => {
 
   useEffect(() => {
     fetchFriends();
+  }, [memberId]);
 
-    const intervalId = setInterval(() => {
-      fetchFriends();
-    }, 30000);
+  // 접속 상태: 이 연결이 열려 있는 동안 접속 중, 친구 상태가 바뀌면 서버가 알려줌
+  useEffect(() => {
+    if (!memberId) {
+      return;
+    }
+    let heartbeatId;
+    const client = new Client({
+      webSocketFactory: () => new SockJS(`/ws`),
+      // 서버가 토큰으로 회원을 확인 (만료됐으면 접속 상태 없이 연결)
+      connectHeaders: { access: memberInfo.access || "" },
+      reconnectDelay: 5000,
+      onConnect: () => {
+        client.subscribe(`/topic/presence/${memberId}`, (message) => {
+          const { memberId: friendId, online } = JSON.parse(message.body);
+          if (!friendIdsRef.current.has(friendId)) {
+            fetchFriends();
+            return;
+          }
+          setFriends((prev) =>
+            prev.map((f) => (f.id === friendId ? { ...f, online } : f)),
+          );
+        });
+        // 재연결 사이에 바뀐 상태는 목록을 다시 읽어서 맞춤
+        fetchFriends();
+        clearInterval(heartbeatId);
+        heartbeatId = setInterval(() => {
+          if (client.connected) {
+            client.publish({ destination: "/app/presence/heartbeat" });
+          }
+        }, PRESENCE_HEARTBEAT_MS);
+      },
+      onDisconnect: () => clearInterval(heartbeatId),
+      onWebSocketClose: () => clearInterval(heartbeatId),
+    });
+    client.activate();
 
-    return () => clearInterval(intervalId);
-  }, [memberId]);
+    return () => {
+      clearInterval(heartbeatId);
+      client.deactivate();
+    };
+  }, [memberId, memberInfo?.access]);
 
   return (
     <VStack>
@@ -1,20 +1,35 @@
 import { useEffect, useState } from "react";
 import axios from "axios";
-import { Box } from "@chakra-ui/react";
+import { Box, Button } from "@chakra-ui/react";
 import { CommentItem } from "./CommentItem.jsx";
 
+// 댓글은 id 순으로 20개씩 (after 커서)
+const PAGE_SIZE = 20;
+
 export function CommentList({ hospitalId, isProcessing, setIsProcessing }) {
   const [commentList, setCommentList] = useState([]);
+  const [hasMore, setHasMore] = useState(false);
+  const [isLoading, setIsLoading] = useState(false);
+
+  function loadPage(after) {
+    setIsLoading(true);
+    axios
+      .get(`/api/hospitalComment/page/${hospitalId}`, {
+        params: { after, limit: PAGE_SIZE },
+      })
+      .then((res) => {
+        setCommentList((list) =>
+          after == null ? res.data.comments : [...list, ...res.data.comments],
+        );
+        setHasMore(res.data.hasMore);
+      })
+      .catch((err) => console.log(err))
+      .finally(() => setIsLoading(false));
+  }
+
   useEffect(() => {
-    axios;
     if (!isProcessing) {
-      axios
-        .get(`/api/hospitalComment/list/${hospitalId}`)
-        .then((res) => {
-          setCommentList(res.data);
-        })
-        .catch((err) => console.log(err))
-        .finally(() => {});
+      loadPage(null);
     }
   }, [isProcessing]);
   if (commentList.length === 0) {
@@ -30,6 +45,14 @@ export function CommentList({ hospitalId, isProcessing, setIsProcessing }) {
           key={comment.id}
         />
       ))}
+      {hasMore && (
+        <Button
+          isLoading={isLoading}
+          onClick={() => loadPage(commentList[commentList.length - 1].id)}
+        >
+          댓글 더 보기
+        </Button>
+      )}
     </Box>
   );
 }
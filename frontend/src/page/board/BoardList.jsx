@@ -45,6 +45,7 @@ export function BoardList() {
   const [searchKeyword, setSearchKeyword] = useState("");
   const [searchType, setSearchType] = useState("전체");
   const [selectedBoardId, setSelectedBoardId] = useState(null);
+  const [suggestions, setSuggestions] = useState([]);
   const [searchParams] = useSearchParams();
 
   const navigate = useNavigate();
@@ -73,6 +74,31 @@ export function BoardList() {
       });
   }, [searchParams]);
 
+  // 자동완성: 입력이 150ms 멈추면 요청, 늦게 온 이전 응답은 버림
+  useEffect(() => {
+    if (searchKeyword.trim() === "") {
+      setSuggestions([]);
+      return;
+    }
+    let ignore = false;
+    const timer = setTimeout(() => {
+      axios
+        .get("/api/board/suggest", {
+          params: { keyword: searchKeyword, searchType, limit: 10 },
+        })
+        .then((res) => {
+          if (!ignore) {
+            setSuggestions(res.data);
+          }
+        })
+        .catch(() => {});
+    }, 150);
+    return () => {
+      ignore = true;
+      clearTimeout(timer);
+    };
+  }, [searchKeyword, searchType]);
+
   const handlePageSizeChange = (number) => {
     setPageAmount(number);
     searchParams.set("pageAmount", number);
@@ -303,12 +329,23 @@ export function BoardList() {
               value={searchKeyword}
               onChange={(e) => setSearchKeyword(e.target.value)}
               placeholder="검색어"
+              list="board-suggest"
               onKeyPress={(e) => {
                 if (e.key === "Enter") {
                   handleSearchClick();
                 }
               }}
             />
+            <datalist id="board-suggest">
+              {suggestions.map((suggestion) => (
+                <option
+                  key={suggestion.type + suggestion.text}
+                  value={suggestion.text}
+                >
+                  {suggestion.type === "writer" ? "작성자" : "글"}
+                </option>
+              ))}
+            </datalist>
           </Box>
           <Box>
             <Button onClick={handleSearchClick}>
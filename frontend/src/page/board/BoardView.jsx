@@ -84,8 +84,17 @@ export function BoardView() {
   const [selectedWriterId, setSelectedWriterId] = useState(null);
 
   useEffect(() => {
-    axios
-      .get(`/api/board/${id}`, { params })
+    // 순 조회자는 토큰으로 확인한 회원 기준 (토큰이 만료됐으면 비회원으로 다시 조회)
+    const access = memberInfo?.access;
+    const request = (headers) =>
+      axios.get(`/api/board/${id}`, { params, headers });
+    (access ? request({ access }) : request({}))
+      .catch((err) => {
+        if (access && err.response && err.response.status === 401) {
+          return request({});
+        }
+        throw err;
+      })
       .then((res) => {
         setBoard(res.data.board);
         setLike(res.data.like);
@@ -304,7 +313,7 @@ export function BoardView() {
         </Flex>
       </Flex>
       <Box fontSize={"large"} color="gray.500">
-        조회수: {board.views}
+        조회수: {board.views} · 방문자: {board.uniqueViews}
       </Box>
       <Box mt={4}>
         <BoardCommentComponent boardId={board.id} />